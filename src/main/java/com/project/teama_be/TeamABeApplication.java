@@ -3,8 +3,10 @@ package com.project.teama_be;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing //JPA Auditing 기능 활성화
+@EnableScheduling //스케줄링 기능 활성화
 @SpringBootApplication
 public class TeamABeApplication {
 
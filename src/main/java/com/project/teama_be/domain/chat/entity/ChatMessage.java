@@ -2,6 +2,7 @@ package com.project.teama_be.domain.chat.entity;
 
 import com.project.teama_be.domain.member.entity.Member;
 import com.project.teama_be.global.entity.BaseEntity;
+import com.project.teama_be.global.entity.Tsid;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,7 @@ import lombok.*;
 public class ChatMessage extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
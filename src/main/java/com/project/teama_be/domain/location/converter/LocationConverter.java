@@ -1,20 +1,19 @@
 package com.project.teama_be.domain.location.converter;
 
 import com.project.teama_be.domain.location.entity.Location;
-import com.project.teama_be.domain.post.dto.request.PostReqDTO;
+import com.project.teama_be.domain.location.service.LocationResolver;
 
 public class LocationConverter {
 
-    // Location 생성
-    public static Location toLocation(
-            PostReqDTO.PostUpload dto
+    // Location -> ResolvedLocation
+    public static LocationResolver.ResolvedLocation toResolvedLocation(
+            Location location
     ){
-        return Location.builder()
-                .latitude(dto.latitude())
-                .longitude(dto.longitude())
-                .placeName(dto.placeName())
-                .addressName(dto.addressName())
-                .roadAddressName(dto.roadAddressName())
-                .build();
+        return new LocationResolver.ResolvedLocation(
+                location.getId(),
+                location.getPlaceName(),
+                location.getAddressName(),
+                location.getRoadAddressName()
+        );
     }
 }
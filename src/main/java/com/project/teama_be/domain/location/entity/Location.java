@@ -7,7 +7,14 @@ import lombok.*;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "location")
+@Table(
+        name = "location",
+        // 정규화한 장소명당 위치는 하나 : 신규 위치는 이 키 기준 upsert
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_location_place_key",
+                columnNames = "place_key"
+        )
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
@@ -32,4 +39,8 @@ public class Location extends BaseEntity {
 
     @Column(name = "place_name")
     private String placeName;
+
+    // 정규화한 장소명 (LocationResolver.normalize)
+    @Column(name = "place_key")
+    private String placeKey;
 }
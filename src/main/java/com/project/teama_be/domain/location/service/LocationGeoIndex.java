@@ -0,0 +1,204 @@
+package com.project.teama_be.domain.location.service;
+
+import com.project.teama_be.domain.location.entity.Location;
+import com.project.teama_be.domain.location.repository.LocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 위치 격자 인덱스 :
+ * 모든 Location 의 위도/경도를 고정 크기 격자(약 1.1km)에 나눠 메모리에 보관합니다.
+ * 반경 조회 시 반경을 덮는 격자만 확인한 뒤 하버사인 거리로 정확히 거릅니다.
+ * 반경은 최대 MAX_RADIUS_KM, 결과는 가까운 순 MAX_RESULTS 개까지이며,
+ * 덮는 격자가 위치가 있는 격자보다 많으면(극지방 등) 위치가 있는 격자만 확인합니다.
+ * 위치 추가는 이 서버에만 반영되므로, 다른 서버에서 생긴 위치는 RELOAD_INTERVAL_MS 간격의 재적재로 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationGeoIndex {
+
+    private static final double CELL_DEGREE = 0.01;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    public static final double MAX_RADIUS_KM = 20.0;
+    public static final int MAX_RESULTS = 500;
+    private static final long RELOAD_INTERVAL_MS = 5 * 60 * 1000L;
+
+    private final LocationRepository locationRepository;
+    // 적재가 끝난 새 격자로 통째로 교체 (적재 중에도 기존 격자로 조회)
+    private volatile Map<Long, Cell> cells = new ConcurrentHashMap<>();
+    // 적재 중인 격자 : 적재 중에 추가된 위치도 함께 반영
+    private Map<Long, Cell> loading;
+    // 시작 적재와 주기 재적재가 겹치지 않도록 (위치 추가(add)는 막지 않음)
+    private final Object loadLock = new Object();
+
+    // 서버 시작 시 전체 위치 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (loadLock) {
+            loadCells();
+        }
+    }
+
+    // 주기 재적재 : 다른 서버에서 추가된 위치 반영
+    @Scheduled(initialDelay = RELOAD_INTERVAL_MS, fixedDelay = RELOAD_INTERVAL_MS)
+    public void reload() {
+        load();
+    }
+
+    private void loadCells() {
+        Map<Long, Cell> next = new ConcurrentHashMap<>();
+        synchronized (this) {
+            loading = next;
+        }
+
+        List<Location> locations = locationRepository.findAll();
+        locations.forEach(location -> add(next,
+                location.getId(), location.getLatitude(), location.getLongitude()));
+
+        synchronized (this) {
+            cells = next;
+            loading = null;
+        }
+        log.info("[ 위치 인덱스 적재 ] locationCnt:{}, cellCnt:{}", locations.size(), next.size());
+    }
+
+    // 위치 추가 (게시글 업로드로 새 위치가 생긴 경우)
+    public synchronized void add(Long locationId, BigDecimal latitude, BigDecimal longitude) {
+        add(cells, locationId, latitude, longitude);
+        if (loading != null) {
+            add(loading, locationId, latitude, longitude);
+        }
+    }
+
+    private static void add(Map<Long, Cell> target, Long locationId, BigDecimal latitude, BigDecimal longitude) {
+        if (locationId == null || latitude == null || longitude == null) {
+            return;
+        }
+        double lat = latitude.doubleValue();
+        double lng = longitude.doubleValue();
+        target.computeIfAbsent(cellKey(cellOf(lat), cellOf(lng)), key -> new Cell())
+                .add(locationId, lat, lng);
+    }
+
+    /** 반경 내 위치 조회
+     *
+     * @param lat 중심 위도
+     * @param lng 중심 경도
+     * @param radiusKm 반경 (km, 최대 MAX_RADIUS_KM)
+     * @return 반경 내 위치 ID 목록 (가까운 순, 최대 MAX_RESULTS 개)
+     */
+    public List<Long> findWithinRadius(double lat, double lng, double radiusKm) {
+        double radius = Math.min(radiusKm, MAX_RADIUS_KM);
+        Map<Long, Cell> current = cells;
+
+        // 반경을 덮는 격자 범위 계산
+        double latDelta = Math.toDegrees(radius / EARTH_RADIUS_KM);
+        double cosLat = Math.max(Math.cos(Math.toRadians(lat)), 1e-6);
+        double lngDelta = Math.min(180.0, latDelta / cosLat);
+
+        int minLatCell = cellOf(lat - latDelta);
+        int maxLatCell = cellOf(lat + latDelta);
+        int minLngCell = cellOf(lng - lngDelta);
+        int maxLngCell = cellOf(lng + lngDelta);
+
+        // 후보 격자 순회 + 하버사인 거리 필터
+        List<long[]> hits = new ArrayList<>();
+        long rangeCellCnt = (long) (maxLatCell - minLatCell + 1) * (maxLngCell - minLngCell + 1);
+        if (rangeCellCnt <= current.size()) {
+            for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (int lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                    Cell cell = current.get(cellKey(latCell, lngCell));
+                    if (cell != null) {
+                        collect(cell, lat, lng, radius, hits);
+                    }
+                }
+            }
+        } else {
+            // 덮는 격자가 더 많으면 위치가 있는 격자만 범위 확인
+            current.forEach((key, cell) -> {
+                int latCell = (int) (key >> 32);
+                int lngCell = (int) (long) key;
+                if (latCell >= minLatCell && latCell <= maxLatCell
+                        && lngCell >= minLngCell && lngCell <= maxLngCell) {
+                    collect(cell, lat, lng, radius, hits);
+                }
+            });
+        }
+
+        hits.sort(Comparator.comparingDouble(hit -> Double.longBitsToDouble(hit[1])));
+        return hits.stream()
+                .limit(MAX_RESULTS)
+                .map(hit -> hit[0])
+                .toList();
+    }
+
+    // 격자 안의 반경 내 위치 추가 (ID, 거리)
+    private static void collect(Cell cell, double lat, double lng, double radiusKm, List<long[]> hits) {
+        Cell.Snapshot snapshot = cell.snapshot();
+        for (int i = 0; i < snapshot.size(); i++) {
+            double distance = haversineKm(lat, lng, snapshot.lat()[i], snapshot.lng()[i]);
+            if (distance <= radiusKm) {
+                hits.add(new long[]{snapshot.ids()[i], Double.doubleToLongBits(distance)});
+            }
+        }
+    }
+
+    // 두 좌표 사이 거리 (km)
+    static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static int cellOf(double degree) {
+        return (int) Math.floor(degree / CELL_DEGREE);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    // 격자 한 칸 : 추가는 드물고 조회는 잦으므로 copy-on-write 배열로 보관
+    private static final class Cell {
+
+        private volatile Snapshot snapshot = new Snapshot(new long[0], new double[0], new double[0], 0);
+
+        synchronized void add(long id, double lat, double lng) {
+            Snapshot current = snapshot;
+            for (int i = 0; i < current.size(); i++) {
+                if (current.ids()[i] == id) {
+                    return;
+                }
+            }
+            int size = current.size();
+            long[] ids = Arrays.copyOf(current.ids(), size + 1);
+            double[] lats = Arrays.copyOf(current.lat(), size + 1);
+            double[] lngs = Arrays.copyOf(current.lng(), size + 1);
+            ids[size] = id;
+            lats[size] = lat;
+            lngs[size] = lng;
+            snapshot = new Snapshot(ids, lats, lngs, size + 1);
+        }
+
+        Snapshot snapshot() {
+            return snapshot;
+        }
+
+        private record Snapshot(long[] ids, double[] lat, double[] lng, int size) {}
+    }
+}
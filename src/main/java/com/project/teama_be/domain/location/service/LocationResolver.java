@@ -0,0 +1,147 @@
+package com.project.teama_be.domain.location.service;
+
+import com.project.teama_be.domain.location.converter.LocationConverter;
+import com.project.teama_be.domain.location.exception.LocationException;
+import com.project.teama_be.domain.location.exception.code.LocationErrorCode;
+import com.project.teama_be.domain.location.repository.LocationRepository;
+import com.project.teama_be.domain.post.dto.request.PostReqDTO;
+import com.project.teama_be.global.utils.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/** 위치 확인 :
+ * 게시글의 장소명을 정규화한 키(place_key)로 위치를 찾고, 없으면 유니크 키 기준 upsert 로 만듭니다.
+ * 확인한 위치는 메모리에 보관하므로 이미 있는 장소에 올릴 때는 위치 조회가 없습니다.
+ * 같은 장소에 동시에 처음 올려도 유니크 키 때문에 위치는 하나만 생깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationResolver {
+
+    private static final int MAX_SIZE = 10_000;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // 이미 있으면 아무것도 바꾸지 않음
+    private static final String UPSERT_SQL = """
+            INSERT INTO location (latitude, longitude, address_name, road_address_name, place_name, place_key,
+                                  created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE place_key = place_key
+            """;
+    // 동시에 다른 요청이 만든 행일 수 있으므로 잠금 읽기로 최신 값 조회
+    private static final String SELECT_FOR_SHARE_SQL = """
+            SELECT id, latitude, longitude, place_name, address_name, road_address_name
+              FROM location WHERE place_key = ? LOCK IN SHARE MODE
+            """;
+    private static final String SELECT_UNKEYED_SQL =
+            "SELECT id, place_name FROM location WHERE place_key IS NULL ORDER BY id";
+    // 기존 중복 위치는 먼저 만들어진 행만 키를 가짐 (나머지는 유니크 키 위반을 무시해 NULL 유지)
+    private static final String UPDATE_KEY_SQL = "UPDATE IGNORE location SET place_key = ? WHERE id = ?";
+
+    private final LocationRepository locationRepository;
+    private final LocationGeoIndex locationGeoIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, ResolvedLocation> cache = new ConcurrentHashMap<>();
+
+    // 게시글 저장에 필요한 위치 정보
+    public record ResolvedLocation(Long id, String placeName, String addressName, String roadAddressName) {}
+
+    // 서버 시작 시 키가 없는 기존 위치에 키 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillPlaceKeys() {
+        List<Object[]> batch = jdbcTemplate.query(
+                        SELECT_UNKEYED_SQL,
+                        (rs, rowNum) -> new Object[]{normalize(rs.getString("place_name")), rs.getLong("id")}
+                ).stream()
+                .filter(row -> !((String) row[0]).isEmpty())
+                .toList();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_KEY_SQL, batch);
+        log.info("[ 위치 키 백필 ] locationCnt:{}", batch.size());
+    }
+
+    /** 위치 확인 :
+     * 메모리 -> DB 순으로 찾고, 없으면 검증 후 생성합니다. 호출한 트랜잭션이 커밋된 뒤 메모리에 반영합니다.
+     * @param dto 게시글 업로드 요청 (장소명, 주소, 좌표)
+     * @return 위치 정보
+     */
+    public ResolvedLocation resolve(PostReqDTO.PostUpload dto) {
+        String placeKey = normalize(dto.placeName());
+        ResolvedLocation cached = cache.get(placeKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        ResolvedLocation resolved = locationRepository.findByPlaceKey(placeKey)
+                .map(LocationConverter::toResolvedLocation)
+                .orElseGet(() -> upsert(placeKey, dto));
+
+        TransactionUtil.afterCommit(() -> {
+            if (cache.size() >= MAX_SIZE) {
+                cache.clear();
+            }
+            cache.put(placeKey, resolved);
+        });
+        return resolved;
+    }
+
+    // 위치 생성 : 동시에 같은 장소가 생성되었으면 그 행을 사용
+    private ResolvedLocation upsert(String placeKey, PostReqDTO.PostUpload dto) {
+
+        // 의미있는 값인지 확인: 지번, 도로명, 장소명은 공백이면 안됨
+        if (dto.addressName().isBlank() || placeKey.isEmpty() || dto.roadAddressName().isBlank()) {
+            throw new LocationException(LocationErrorCode.NOT_VALID);
+        }
+
+        jdbcTemplate.update(
+                UPSERT_SQL,
+                dto.latitude(),
+                dto.longitude(),
+                dto.addressName(),
+                dto.roadAddressName(),
+                dto.placeName().strip(),
+                placeKey
+        );
+
+        // 저장된 값 기준으로 반환, 좌표 인덱스 반영
+        return jdbcTemplate.queryForObject(SELECT_FOR_SHARE_SQL, (rs, rowNum) -> {
+            Long id = rs.getLong("id");
+            BigDecimal latitude = rs.getBigDecimal("latitude");
+            BigDecimal longitude = rs.getBigDecimal("longitude");
+            TransactionUtil.afterCommit(() -> locationGeoIndex.add(id, latitude, longitude));
+
+            log.info("[ 위치 정보 생성 ] locationID:{}, placeKey:{}", id, placeKey);
+            return new ResolvedLocation(
+                    id,
+                    rs.getString("place_name"),
+                    rs.getString("address_name"),
+                    rs.getString("road_address_name")
+            );
+        }, placeKey);
+    }
+
+    // 장소명 정규화 : 유니코드 조합 통일, 앞뒤 공백 제거, 연속 공백 하나로, 소문자
+    static String normalize(String placeName) {
+        if (placeName == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(placeName, Normalizer.Form.NFC).strip();
+        return WHITESPACE.matcher(composed).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -5,6 +5,8 @@ import com.project.teama_be.domain.member.dto.response.MemberResDTO;
 import com.project.teama_be.domain.member.service.command.MemberCommandService;
 import com.project.teama_be.domain.member.service.query.MemberQueryService;
 import com.project.teama_be.global.apiPayload.CustomResponse;
+import com.project.teama_be.global.aws.dto.S3ReqDTO;
+import com.project.teama_be.global.aws.dto.S3ResDTO;
 import com.project.teama_be.global.security.annotation.CurrentUser;
 import com.project.teama_be.global.security.userdetails.AuthUser;
 import io.swagger.v3.oas.annotations.Operation;
@@ -78,6 +80,23 @@ public class MemberController {
         return CustomResponse.onSuccess(resDTO);
     }
 
+    @PostMapping("/profile-image/presigned-url")
+    @Operation(summary = "프로필 이미지 업로드 URL 발급 API", description = "프로필 이미지를 S3에 직접 업로드할 수 있는 URL을 발급합니다. (유효시간 10분)")
+    public CustomResponse<S3ResDTO.PresignedUrl> issueProfileImageUrl(@CurrentUser AuthUser authUser,
+                                                                      @RequestBody @Valid S3ReqDTO.PresignedFile reqDTO) {
+        S3ResDTO.PresignedUrl resDTO = memberCommandService.issueProfileImageUrl(authUser, reqDTO);
+        return CustomResponse.onSuccess(resDTO);
+    }
+
+    @PatchMapping("/profile-image/presigned")
+    @Operation(summary = "프로필 이미지 변경 API (직접 업로드)", description = "S3에 직접 업로드한 이미지의 key로 프로필 이미지를 변경합니다.")
+    public CustomResponse<MemberResDTO.changeProfileImg> updatePresignedProfileImage(
+            @CurrentUser AuthUser authUser,
+            @RequestBody @Valid MemberReqDTO.changeProfileImgPresigned reqDTO) {
+        MemberResDTO.changeProfileImg resDTO = memberCommandService.changeProfileImgPresigned(authUser, reqDTO);
+        return CustomResponse.onSuccess(resDTO);
+    }
+
     @DeleteMapping("")
     @Operation(summary = "회원 탈퇴 API by 김지명", description = "사용자를 탈퇴시킵니다.")
     public CustomResponse<MemberResDTO.deleteMember> deleteMember(@CurrentUser AuthUser authUser) {
@@ -48,4 +48,10 @@ public class MemberReqDTO {
             String newNickname
     ) {
     }
+
+    public record changeProfileImgPresigned(
+            @NotBlank(message = "업로드 키는 필수 입력값입니다.")
+            String imageKey
+    ) {
+    }
 }
@@ -0,0 +1,51 @@
+package com.project.teama_be.domain.member.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// 회원 탈퇴 작업 : 회원당 한 행, MemberDeletionEngine 의 SQL 로만 갱신 (진행 단계를 기록해 재시작 시 이어서 진행)
+@Entity
+@Immutable
+@Table(
+        name = "member_deletion_job",
+        indexes = {
+                @Index(name = "idx_member_deletion_job_status", columnList = "status")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class MemberDeletionJob {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    // 진행 중인 단계 (MemberDeletionEngine.Step)
+    @Column(name = "step", nullable = false, length = 50)
+    private String step;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    // 지금까지 삭제한 행 수
+    @Column(name = "deleted_rows", nullable = false)
+    private Long deletedRows;
+
+    // 작업을 잡은 서버의 점유 만료 시각 (서버가 죽으면 만료 후 다른 실행이 이어받음)
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -1,6 +1,7 @@
 package com.project.teama_be.domain.member.entity;
 
 import com.project.teama_be.domain.post.entity.Post;
+import com.project.teama_be.global.entity.Tsid;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
@@ -10,7 +11,14 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "recently_viewed")
+@Table(
+        name = "recently_viewed",
+        // 회원, 게시글당 기록 하나 : 반영은 이 키 기준 upsert
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_recently_viewed_member_post",
+                columnNames = {"member_id", "post_id"}
+        )
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
@@ -21,7 +29,7 @@ import java.time.LocalDateTime;
 public class RecentlyViewed {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -37,9 +45,4 @@ public class RecentlyViewed {
 
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
-
-    // Update
-    public void updateViewedAt(LocalDateTime now) {
-        this.viewedAt = now;
-    }
 }
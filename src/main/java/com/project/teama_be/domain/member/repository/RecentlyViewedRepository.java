@@ -1,12 +1,13 @@
 package com.project.teama_be.domain.member.repository;
 
 import com.project.teama_be.domain.member.entity.RecentlyViewed;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface RecentlyViewedRepository extends JpaRepository<RecentlyViewed, Long> {
-    boolean existsByMemberIdAndPostId(Long memberId, Long postId);
+import java.util.List;
 
-    RecentlyViewed findByMemberIdAndPostId(Long memberId, Long postId);
+public interface RecentlyViewedRepository extends JpaRepository<RecentlyViewed, Long> {
 
-    RecentlyViewed findByPostId(Long postId);
+    // 최근 본 게시글 캐시 적재용 (본 시각 최신 순)
+    List<RecentlyViewed> findByMemberIdOrderByViewedAtDesc(Long memberId, Pageable pageable);
 }
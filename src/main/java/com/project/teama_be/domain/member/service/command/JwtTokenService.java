@@ -2,15 +2,15 @@ package com.project.teama_be.domain.member.service.command;
 
 import com.project.teama_be.global.security.dto.JwtDTO;
 import com.project.teama_be.global.security.util.JwtUtil;
+import com.project.teama_be.global.security.util.TokenBlacklist;
 import com.project.teama_be.global.utils.RedisUtil;
+import io.jsonwebtoken.security.SecurityException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
-
 @Slf4j
 @RequiredArgsConstructor
 @Service
@@ -18,7 +18,7 @@ public class JwtTokenService {
 
     private final JwtUtil jwtUtil;
     private final RedisUtil redisUtil;
-    private static final String BLACKLIST_PREFIX = "blacklist:";
+    private final TokenBlacklist tokenBlacklist;
 
     public JwtDTO reissueTokenAndSetCookie(String refreshToken, HttpServletResponse response) {
         if (refreshToken == null) {
@@ -26,6 +26,11 @@ public class JwtTokenService {
             throw new IllegalArgumentException("Refresh Token이 존재하지 않습니다.");
         }
 
+        // 로그아웃한 리프레시 토큰은 재발급 불가
+        if (isTokenBlacklisted(refreshToken)) {
+            throw new SecurityException("블랙리스트로 등록된 토큰입니다.");
+        }
+
         JwtDTO jwt = jwtUtil.reissueToken(refreshToken);
 
         setCookieSettings(response, "access_token", jwt.accessToken(), jwtUtil.getAccessExpMs());
@@ -46,14 +51,12 @@ public class JwtTokenService {
 
     // 주어진 토큰을 블랙리스트에 추가하고, 주어진 기간 동안 유지
     public void addToBlacklist(String token, long durationMs) {
-        String key = BLACKLIST_PREFIX + token;
-        redisUtil.save(key, true, durationMs, TimeUnit.MILLISECONDS); // Redis에 블랙리스트 키와 값을 저장하고, 만료 시간 설정(TTL)
+        tokenBlacklist.add(jwtUtil.getTokenId(token), durationMs); // 토큰 ID 기준으로 저장하고, 만료 시간 설정(TTL)
     }
 
     // 주어진 토큰이 블랙리스트에 있는지 확인
     public boolean isTokenBlacklisted(String token) {
-        String key = BLACKLIST_PREFIX + token;
-        return Boolean.TRUE.equals(redisUtil.hasKey(key));
+        return tokenBlacklist.contains(jwtUtil.getTokenId(token)); // 메모리 필터에 있을 때만 Redis 조회
     }
 
     private void setCookieSettings(HttpServletResponse response, String name, String value, long expMs) {
@@ -10,16 +10,28 @@ import com.project.teama_be.domain.member.exceptioin.MemberErrorCode;
 import com.project.teama_be.domain.member.exceptioin.MemberException;
 import com.project.teama_be.domain.member.repository.MemberRepository;
 import com.project.teama_be.domain.member.repository.NotRecommendedRepository;
-import com.project.teama_be.domain.post.entity.Post;
-import com.project.teama_be.domain.post.entity.PostImage;
+import com.project.teama_be.domain.member.service.query.BlockQueryService;
+import com.project.teama_be.domain.post.event.PostFeedEvent;
+import com.project.teama_be.global.aws.dto.S3ReqDTO;
+import com.project.teama_be.global.aws.dto.S3ResDTO;
+import com.project.teama_be.global.aws.exception.S3Exception;
+import com.project.teama_be.global.aws.exception.code.S3ErrorCode;
+import com.project.teama_be.global.aws.util.S3DeletionQueue;
+import com.project.teama_be.global.aws.util.S3PresignUtil;
 import com.project.teama_be.global.aws.util.S3Util;
 import com.project.teama_be.global.security.userdetails.AuthUser;
+import com.project.teama_be.global.security.util.TokenRevocationStore;
+import com.project.teama_be.global.utils.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
+
+import java.util.List;
 
 @Slf4j
 @Service
@@ -29,8 +41,14 @@ public class MemberCommandService {
 
     private final MemberRepository memberRepository;
     private final NotRecommendedRepository notRecommendedRepository;
+    private final BlockQueryService blockQueryService;
     private final PasswordEncoder passwordEncoder;
     private final S3Util s3Util;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final S3PresignUtil s3PresignUtil;
+    private final MemberDeletionEngine memberDeletionEngine;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final ApplicationEventPublisher eventPublisher;
     private static final String PROFILE_IMAGE_FOLDER = "user-image/";
     private static final String DEFAULT_PROFILE_IMAGE_URI = "https://s3.ap-northeast-2.amazonaws.com/api-smp.shop/user-image/TempUser.png";
 
@@ -43,6 +61,7 @@ public class MemberCommandService {
 
         NotRecommended notRecommended = NotRecommendedConverter.toNotRecommended(member, reqDTO);
         notRecommendedRepository.save(notRecommended);
+        blockQueryService.evict(member.getId(), reqDTO.targetMemberId());
 
         return NotRecommendedConverter.toBlockMemberResDTO(notRecommended);
     }
@@ -60,6 +79,8 @@ public class MemberCommandService {
 
         String encodedPassword = passwordEncoder.encode(reqDTO.newPassword());
         member.updatePassword(encodedPassword);
+        // 기존에 발급된 토큰 폐기
+        tokenRevocationStore.revoke(member.getId());
     }
 
     public MemberResDTO.changeNickname changeNickname(AuthUser authUser, MemberReqDTO.changeNickname reqDTO) {
@@ -70,6 +91,7 @@ public class MemberCommandService {
         }
 
         member.updateNickname(reqDTO.newNickname());
+        eventPublisher.publishEvent(new PostFeedEvent.MemberChanged(member.getId()));
         return MemberConverter.toChangeNicknameResDTO(member);
     }
 
@@ -91,18 +113,7 @@ public class MemberCommandService {
             log.info("[ 프로필 변경 ] 프로필 이미지 업로드 성공: {}", profileImageUrl);
 
             // 회원 프로필 이미지 URL 업데이트
-            member.updateProfileUrl(profileImageUrl);
-
-            // 기존 이미지가 기본 이미지가 아닌 경우 삭제
-            if (oldProfileUrl != null && !oldProfileUrl.equals(DEFAULT_PROFILE_IMAGE_URI)) {
-                try {
-                    s3Util.deleteFile(oldProfileUrl);
-                    log.info("[ 프로필 변경 ] 기존 프로필 이미지 삭제 성공: {}", oldProfileUrl);
-                } catch (IllegalArgumentException e) {
-                    // 기존 이미지 삭제 실패해도 새 이미지 업로드는 성공했으므로 오류 로깅만 하고 계속 진행
-                    log.warn("[ 프로필 변경 ] 기존 프로필 이미지 삭제 실패: {}", e.getMessage());
-                }
-            }
+            replaceProfileUrl(member, oldProfileUrl, profileImageUrl);
 
             return MemberConverter.toChangeProfileImgResDTO(member);
 
@@ -112,33 +123,72 @@ public class MemberCommandService {
         }
     }
 
+    // 프로필 이미지 업로드 URL 발급 (클라이언트가 S3 로 직접 업로드)
+    public S3ResDTO.PresignedUrl issueProfileImageUrl(AuthUser authUser, S3ReqDTO.PresignedFile reqDTO) {
+        return s3PresignUtil.issue(authUser.getUserId(), reqDTO, PROFILE_IMAGE_FOLDER);
+    }
+
+    // 프로필 이미지 변경 (직접 업로드한 사진)
+    public MemberResDTO.changeProfileImg changeProfileImgPresigned(
+            AuthUser authUser,
+            MemberReqDTO.changeProfileImgPresigned reqDTO
+    ) {
+        Member member = findMemberByAuthUser(authUser);
+        String oldProfileUrl = member.getProfileUrl();
+
+        // 업로드 확인 (HEAD) : 확인한 키는 다시 쓸 수 없으므로 롤백되면 삭제 예약
+        String profileImageUrl = s3PresignUtil.claim(authUser.getUserId(), reqDTO.imageKey());
+        log.info("[ 프로필 변경 ] 프로필 이미지 업로드 확인: {}", profileImageUrl);
+        TransactionUtil.afterRollback(() -> deleteUploadedImage(profileImageUrl));
+
+        // 서버를 거치지 않은 사진 : 메타데이터(EXIF, GPS 등) 제거 + 축소본 생성 (게시글 사진과 달리 백필 대상이 아님)
+        try {
+            s3Util.createVariants(profileImageUrl);
+        } catch (SdkException e) {
+            log.error("[ 프로필 변경 ] 프로필 이미지 변환 실패: {}", e.getMessage());
+            throw new S3Exception(S3ErrorCode.S3_EXCEPTION);
+        }
+
+        replaceProfileUrl(member, oldProfileUrl, profileImageUrl);
+        return MemberConverter.toChangeProfileImgResDTO(member);
+    }
+
+    // 롤백된 프로필 사진 정리 : 삭제 대기열 저장이 실패하면 S3 에서 바로 삭제
+    private void deleteUploadedImage(String profileImageUrl) {
+        log.warn("[ 프로필 변경 ] 롤백, 업로드된 사진 삭제: {}", profileImageUrl);
+        try {
+            s3DeletionQueue.enqueue(List.of(profileImageUrl));
+        } catch (RuntimeException e) {
+            log.warn("[ S3 삭제 예약 실패 ] 바로 삭제 : {}", profileImageUrl);
+            s3Util.deleteFiles(List.of(profileImageUrl));
+        }
+    }
+
+    // 프로필 URL 교체 + 읽기 모델 반영, 기존 이미지가 기본 이미지가 아닌 경우 삭제 예약
+    private void replaceProfileUrl(Member member, String oldProfileUrl, String profileImageUrl) {
+        member.updateProfileUrl(profileImageUrl);
+        eventPublisher.publishEvent(new PostFeedEvent.MemberChanged(member.getId()));
+
+        if (oldProfileUrl != null && !oldProfileUrl.equals(DEFAULT_PROFILE_IMAGE_URI)) {
+            s3DeletionQueue.enqueue(List.of(oldProfileUrl));
+            log.info("[ 프로필 변경 ] 기존 프로필 이미지 삭제 예약: {}", oldProfileUrl);
+        }
+    }
+
     public MemberResDTO.deleteMember deleteMember(AuthUser authUser) {
         Member member = findMemberByAuthUser(authUser);
         MemberResDTO.deleteMember resDTO = MemberConverter.toDeleteMemberResDTO(member);
 
-        // S3에 저장된 프로필 이미지 처리
+        // S3에 저장된 프로필 이미지 삭제 예약 (탈퇴 트랜잭션과 함께 기록, 게시물 이미지는 MemberDeletionEngine 이 청크마다 예약)
         String profileUrl = member.getProfileUrl();
         if (profileUrl != null && !profileUrl.equals(DEFAULT_PROFILE_IMAGE_URI)) {
-            try {
-                s3Util.deleteFile(profileUrl);
-            } catch (Exception e) {
-                log.warn("프로필 이미지 삭제 실패: {}", e.getMessage());
-            }
-        }
-
-        // S3에 저장된 게시물 이미지 삭제 처리
-        for (Post post : member.getPosts()) {
-            for (PostImage image : post.getPostImages()) {
-                try {
-                    s3Util.deleteFile(image.getImageUrl());
-                } catch (Exception e) {
-                    log.warn("게시물 이미지 삭제 실패: {}", e.getMessage());
-                }
-            }
+            s3DeletionQueue.enqueue(List.of(profileUrl));
         }
 
-        // 회원 삭제 (cascade로 연관 엔티티들도 모두 삭제됨)
-        memberRepository.delete(member);
+        // 회원, 연관 데이터 삭제 예약 (탈퇴 트랜잭션과 함께 기록, 실제 삭제는 MemberDeletionEngine 이 청크 단위로)
+        memberDeletionEngine.schedule(member.getId());
+        tokenRevocationStore.revoke(member.getId());
+        eventPublisher.publishEvent(new PostFeedEvent.MemberDeleted(member.getId()));
 
         return resDTO;
     }
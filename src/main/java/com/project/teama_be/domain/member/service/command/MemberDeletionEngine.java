@@ -0,0 +1,307 @@
+package com.project.teama_be.domain.member.service.command;
+
+import com.project.teama_be.domain.post.service.query.HomeFeedCache;
+import com.project.teama_be.domain.post.service.search.KeywordSuggestIndex;
+import com.project.teama_be.domain.post.service.search.PostSearchIndex;
+import com.project.teama_be.domain.post.service.trending.TrendingEngine;
+import com.project.teama_be.global.aws.util.S3DeletionQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/** 회원 탈퇴 작업 :
+ * 탈퇴 요청은 member_deletion_job 에 작업만 기록하고, 연관 데이터는 백그라운드에서
+ * 외래키 순서대로 정해진 단계별로 최대 BATCH_SIZE 행씩 집합 DELETE 로 지웁니다.
+ * 청크마다 삭제와 진행 단계 기록을 같은 트랜잭션으로 커밋하므로 서버가 죽어도 그 단계부터 이어서 진행합니다.
+ * 작업은 점유 만료 시각(locked_until)으로 한 서버만 잡습니다.
+ * 회원이 누른 좋아요는 지우기 전에 같은 청크 안에서 게시글, 읽기 모델, 댓글의 좋아요 수를 차감하고,
+ * 지운 게시글은 커밋 이후 검색, 인기 랭킹, 홈 화면 캐시에서 빼고 작업이 끝나면 자동완성 인덱스를 다시 적재합니다.
+ * 게시글 사진은 사진 행을 지우는 청크 트랜잭션에서 S3 삭제를 함께 예약합니다. (탈퇴 요청에서는 프로필 사진만 예약)
+ * (위치 인덱스는 위치만 보관하고 위치 행은 지우지 않으므로 반영할 것이 없음, 메모리 인덱스 반영은 작업을 실행한 서버에만 적용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberDeletionEngine {
+
+    // 한 트랜잭션에서 지울 최대 행 수 (락 점유 시간 제한)
+    private static final int BATCH_SIZE = 1000;
+    // 작업 점유 시간 : 청크마다 연장
+    private static final long LEASE_SECONDS = 300L;
+    // 실패 시 재시도 대기 시간
+    private static final long RETRY_DELAY_SECONDS = 60L;
+
+    private static final String INSERT_JOB_SQL = """
+            INSERT INTO member_deletion_job (member_id, step, status, deleted_rows, created_at, updated_at)
+            VALUES (?, ?, 'RUNNING', 0, ?, ?)
+            ON DUPLICATE KEY UPDATE member_id = member_id
+            """;
+    private static final String SELECT_RUNNABLE_SQL = """
+            SELECT member_id FROM member_deletion_job
+             WHERE status = 'RUNNING' AND (locked_until IS NULL OR locked_until < ?)
+             ORDER BY created_at
+             LIMIT 10
+            """;
+    private static final String CLAIM_SQL = """
+            UPDATE member_deletion_job SET locked_until = ?
+             WHERE member_id = ? AND status = 'RUNNING' AND (locked_until IS NULL OR locked_until < ?)
+            """;
+    private static final String SELECT_STEP_SQL = "SELECT step FROM member_deletion_job WHERE member_id = ?";
+    private static final String PROGRESS_SQL = """
+            UPDATE member_deletion_job
+               SET step = ?, deleted_rows = deleted_rows + ?, locked_until = ?, updated_at = ?
+             WHERE member_id = ?
+            """;
+    private static final String FINISH_SQL = """
+            UPDATE member_deletion_job
+               SET status = 'DONE', locked_until = NULL, updated_at = ?, finished_at = ?
+             WHERE member_id = ?
+            """;
+    private static final String RELEASE_SQL = "UPDATE member_deletion_job SET locked_until = ? WHERE member_id = ?";
+    private static final String RESTART_SQL =
+            "UPDATE member_deletion_job SET step = ?, locked_until = ? WHERE member_id = ?";
+    // 이번 청크에서 지울 게시글 (검색, 랭킹, 캐시 반영용)
+    private static final String SELECT_PURGED_POSTS_SQL = """
+            SELECT p.id, l.place_name FROM post p
+              LEFT JOIN location l ON l.id = p.location_id
+             WHERE p.member_id = ?
+             ORDER BY p.id
+             LIMIT ?
+             FOR UPDATE OF p
+            """;
+
+    // 이번 청크에서 지울 게시글 사진 (S3 삭제 예약용)
+    private static final String SELECT_PURGED_IMAGES_SQL = """
+            SELECT image_url FROM post_image
+             WHERE post_id IN (SELECT id FROM post WHERE member_id = ?)
+             ORDER BY id
+             LIMIT ?
+             FOR UPDATE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostSearchIndex postSearchIndex;
+    private final KeywordSuggestIndex keywordSuggestIndex;
+    private final TrendingEngine trendingEngine;
+    private final HomeFeedCache homeFeedCache;
+    private final S3DeletionQueue s3DeletionQueue;
+
+    /** 삭제 단계 : 자식 테이블부터 순서대로 (각 SQL 의 ? 는 모두 회원 ID)
+     * 게시글, 댓글 하위 데이터는 다른 회원이 남긴 것도 함께 지웁니다. (기존 cascade 와 동일)
+     * 좋아요 단계는 지울 행을 먼저 잠그고, 그 중 마지막 ID 까지의 좋아요 수를 차감한 뒤 같은 행을 지웁니다.
+     * (차감 SQL 의 ? 는 회원 ID, 마지막 ID)
+     */
+    enum Step {
+        // 회원이 쓴 댓글, 회원 게시글의 댓글에 달린 반응
+        OWN_COMMENT_REACTIONS(
+                "DELETE FROM comment_reaction WHERE comment_id IN (SELECT id FROM comment WHERE member_id = ?)"),
+        POST_COMMENT_REACTIONS(
+                "DELETE FROM comment_reaction WHERE comment_id IN "
+                        + "(SELECT c.id FROM comment c JOIN post p ON p.id = c.post_id WHERE p.member_id = ?)"),
+        // 회원 게시글의 댓글, 회원이 쓴 댓글
+        POST_COMMENTS("DELETE FROM comment WHERE post_id IN (SELECT id FROM post WHERE member_id = ?)"),
+        OWN_COMMENTS("DELETE FROM comment WHERE member_id = ?"),
+        // 회원이 누른 댓글 좋아요 (댓글 좋아요 수 차감), 나머지 댓글 반응
+        MEMBER_COMMENT_LIKES(
+                "DELETE FROM comment_reaction WHERE member_id = ? AND reaction_type = 'LIKE' ORDER BY id",
+                "SELECT id FROM comment_reaction WHERE member_id = ? AND reaction_type = 'LIKE' ORDER BY id LIMIT ? FOR UPDATE",
+                """
+                UPDATE comment c
+                  JOIN (SELECT comment_id, COUNT(*) AS cnt FROM comment_reaction
+                         WHERE member_id = ? AND reaction_type = 'LIKE' AND id <= ?
+                         GROUP BY comment_id) r ON r.comment_id = c.id
+                   SET c.like_count = COALESCE(c.like_count, 0) - r.cnt
+                """),
+        MEMBER_COMMENT_REACTIONS("DELETE FROM comment_reaction WHERE member_id = ?"),
+        // 게시글 반응
+        POST_REACTIONS("DELETE FROM post_reaction WHERE post_id IN (SELECT id FROM post WHERE member_id = ?)"),
+        // 회원이 누른 게시글 좋아요 (게시글, 읽기 모델 좋아요 수 차감), 나머지 게시글 반응
+        // 차감은 누적기(PostLikeCounter)와 같은 증감 방식이라 아직 반영되지 않은 증감과 겹쳐도 합계가 맞음
+        MEMBER_POST_LIKES(
+                "DELETE FROM post_reaction WHERE member_id = ? AND reaction_type = 'LIKE' ORDER BY id",
+                "SELECT id FROM post_reaction WHERE member_id = ? AND reaction_type = 'LIKE' ORDER BY id LIMIT ? FOR UPDATE",
+                """
+                UPDATE post p
+                  JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_reaction
+                         WHERE member_id = ? AND reaction_type = 'LIKE' AND id <= ?
+                         GROUP BY post_id) r ON r.post_id = p.id
+                   SET p.like_count = COALESCE(p.like_count, 0) - r.cnt
+                """,
+                """
+                UPDATE post_feed f
+                  JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_reaction
+                         WHERE member_id = ? AND reaction_type = 'LIKE' AND id <= ?
+                         GROUP BY post_id) r ON r.post_id = f.post_id
+                   SET f.like_count = f.like_count - r.cnt
+                """),
+        MEMBER_POST_REACTIONS("DELETE FROM post_reaction WHERE member_id = ?"),
+        // 최근 본 게시글
+        POST_RECENTLY_VIEWED("DELETE FROM recently_viewed WHERE post_id IN (SELECT id FROM post WHERE member_id = ?)"),
+        MEMBER_RECENTLY_VIEWED("DELETE FROM recently_viewed WHERE member_id = ?"),
+        // 알림
+        POST_NOTIFICATIONS("DELETE FROM notification WHERE post_id IN (SELECT id FROM post WHERE member_id = ?)"),
+        MEMBER_NOTIFICATIONS("DELETE FROM notification WHERE member_id = ?"),
+        // 게시글 태그, 사진, 읽기 모델, 게시글
+        POST_TAGS("DELETE FROM post_tag WHERE post_id IN (SELECT id FROM post WHERE member_id = ?)"),
+        // 지울 사진을 SELECT_PURGED_IMAGES_SQL 과 같은 순서로 지움
+        POST_IMAGES("DELETE FROM post_image WHERE post_id IN (SELECT id FROM post WHERE member_id = ?) ORDER BY id"),
+        POST_FEED("DELETE FROM post_feed WHERE member_id = ?"),
+        // 지울 게시글을 SELECT_PURGED_POSTS_SQL 과 같은 순서로 지움
+        POSTS("DELETE FROM post WHERE member_id = ? ORDER BY id"),
+        // 추천 안함 (회원이 등록한 것, 회원을 대상으로 한 것)
+        NOT_RECOMMENDED("DELETE FROM not_recommended WHERE member_id = ? OR target_member_id = ?"),
+        // 채팅
+        CHAT_MESSAGES("DELETE FROM chat_message WHERE sender_id = ?"),
+        CHAT_PARTICIPANTS("DELETE FROM chat_participant WHERE member_id = ?"),
+        // 회원
+        MEMBER("DELETE FROM member WHERE id = ?");
+
+        private final String sql;
+        private final int paramCount;
+        // 지울 행 잠금 (회원 ID, 청크 크기), 좋아요 수 차감
+        private final String lockSql;
+        private final List<String> decrementSqls;
+
+        Step(String sql) {
+            this(sql, null);
+        }
+
+        Step(String sql, String lockSql, String... decrementSqls) {
+            this.sql = sql + " LIMIT ?";
+            this.paramCount = (int) sql.chars().filter(ch -> ch == '?').count();
+            this.lockSql = lockSql;
+            this.decrementSqls = List.of(decrementSqls);
+        }
+    }
+
+    /** 탈퇴 작업 등록 :
+     * 요청 트랜잭션과 함께 기록합니다. 이미 등록된 회원이면 무시합니다.
+     * @param memberId 탈퇴할 회원
+     */
+    public void schedule(Long memberId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_JOB_SQL, memberId, Step.values()[0].name(), now, now);
+        log.info("[ 회원 탈퇴 작업 등록 ] memberID:{}", memberId);
+    }
+
+    // 진행 중인 작업 실행 : 5초 간격 (재시작 후에는 점유가 만료된 작업을 이어서 진행)
+    @Scheduled(fixedDelay = 5_000L)
+    public void runPending() {
+        List<Long> memberIds = jdbcTemplate.queryForList(
+                SELECT_RUNNABLE_SQL, Long.class, Timestamp.valueOf(LocalDateTime.now()));
+
+        for (Long memberId : memberIds) {
+            LocalDateTime now = LocalDateTime.now();
+            int claimed = jdbcTemplate.update(CLAIM_SQL,
+                    Timestamp.valueOf(now.plusSeconds(LEASE_SECONDS)), memberId, Timestamp.valueOf(now));
+            if (claimed == 0) {
+                // 다른 서버가 먼저 잡음
+                continue;
+            }
+
+            try {
+                run(memberId);
+            } catch (DataIntegrityViolationException e) {
+                // 지난 단계에 새 행이 생겨 외래키에 걸림 : 모든 단계가 멱등이므로 처음부터 다시
+                log.warn("[ 회원 탈퇴 작업 ] 외래키 위반, 처음 단계부터 재시도 memberID:{}, message:{}",
+                        memberId, e.getMessage());
+                jdbcTemplate.update(RESTART_SQL, Step.values()[0].name(),
+                        Timestamp.valueOf(LocalDateTime.now().plusSeconds(RETRY_DELAY_SECONDS)), memberId);
+            } catch (RuntimeException e) {
+                log.error("[ 회원 탈퇴 작업 ] 실패, 잠시 후 현재 단계부터 재시도 memberID:{}", memberId, e);
+                jdbcTemplate.update(RELEASE_SQL,
+                        Timestamp.valueOf(LocalDateTime.now().plusSeconds(RETRY_DELAY_SECONDS)), memberId);
+            }
+        }
+    }
+
+    // 저장된 단계부터 끝까지 진행
+    private void run(Long memberId) {
+        String savedStep = jdbcTemplate.queryForObject(SELECT_STEP_SQL, String.class, memberId);
+        long totalDeleted = 0L;
+
+        for (Step step : Step.values()) {
+            if (step.ordinal() < Step.valueOf(savedStep).ordinal()) {
+                continue;
+            }
+
+            // 단계가 끝날 때까지 청크 단위로 삭제
+            long stepDeleted = 0L;
+            int deleted;
+            do {
+                deleted = deleteChunk(memberId, step);
+                stepDeleted += deleted;
+            } while (deleted == BATCH_SIZE);
+
+            totalDeleted += stepDeleted;
+            if (stepDeleted > 0) {
+                log.info("[ 회원 탈퇴 작업 ] memberID:{}, step:{}, deletedCnt:{}", memberId, step, stepDeleted);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(FINISH_SQL, Timestamp.valueOf(now), Timestamp.valueOf(now), memberId);
+        log.info("[ 회원 탈퇴 작업 완료 ] memberID:{}, deletedCnt:{}", memberId, totalDeleted);
+
+        // 태그, 가게별 게시글 수가 바뀌었으므로 자동완성 인덱스 재적재 (게시글 단계를 이번에 거친 경우)
+        if (Step.valueOf(savedStep).ordinal() <= Step.POSTS.ordinal()) {
+            keywordSuggestIndex.load();
+        }
+    }
+
+    // 청크 삭제 + 진행 기록 (한 트랜잭션)
+    private int deleteChunk(Long memberId, Step step) {
+        List<Object> params = new ArrayList<>(Collections.nCopies(step.paramCount, memberId));
+        params.add(BATCH_SIZE);
+
+        Integer deleted = transactionTemplate.execute(status -> {
+            beforeDelete(memberId, step);
+            int count = jdbcTemplate.update(step.sql, params.toArray());
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.update(PROGRESS_SQL, step.name(), count,
+                    Timestamp.valueOf(now.plusSeconds(LEASE_SECONDS)), Timestamp.valueOf(now), memberId);
+            return count;
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    // 청크 삭제 직전 (같은 트랜잭션) : 좋아요 수 차감, 사진 S3 삭제 예약, 지울 게시글을 커밋 이후 인덱스, 캐시에서 제거
+    private void beforeDelete(Long memberId, Step step) {
+        if (step.lockSql != null) {
+            List<Long> ids = jdbcTemplate.queryForList(step.lockSql, Long.class, memberId, BATCH_SIZE);
+            if (!ids.isEmpty()) {
+                Long maxId = ids.get(ids.size() - 1);
+                step.decrementSqls.forEach(sql -> jdbcTemplate.update(sql, memberId, maxId));
+            }
+        }
+
+        if (step == Step.POST_IMAGES) {
+            s3DeletionQueue.enqueue(jdbcTemplate.queryForList(
+                    SELECT_PURGED_IMAGES_SQL, String.class, memberId, BATCH_SIZE));
+        }
+
+        if (step == Step.POSTS) {
+            List<PurgedPost> posts = jdbcTemplate.query(SELECT_PURGED_POSTS_SQL,
+                    (rs, rowNum) -> new PurgedPost(rs.getLong("id"), rs.getString("place_name")),
+                    memberId, BATCH_SIZE);
+            posts.forEach(post -> {
+                postSearchIndex.remove(post.postId());
+                trendingEngine.remove(post.postId());
+            });
+            homeFeedCache.evict(posts.stream().map(PurgedPost::placeName).distinct().toArray(String[]::new));
+        }
+    }
+
+    private record PurgedPost(Long postId, String placeName) {}
+}
@@ -0,0 +1,148 @@
+package com.project.teama_be.domain.member.service.query;
+
+import com.project.teama_be.domain.member.repository.NotRecommendedRepository;
+import com.project.teama_be.global.utils.RedisUtil;
+import com.project.teama_be.global.utils.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/** 차단 관계 캐시 :
+ * 회원별 차단 관계(내가 차단한 회원, 날 차단한 회원)를 정렬된 long 배열로 보관합니다.
+ * 로컬 메모리 -> Redis -> DB 순으로 조회하며, 차단 시 evict 로 커밋 이후 DB 에서 다시 읽어 Redis 값을 덮어씁니다.
+ * 조회 중 캐시를 채울 때는 키가 없을 때만 저장하므로, 커밋 전에 DB 를 읽은 조회가 새 값을 덮어쓰지 못합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlockQueryService {
+
+    private static final String KEY_PREFIX = "block:";
+    private static final long LOCAL_TTL_MS = 30_000L;
+    private static final long REDIS_TTL_MINUTES = 60L;
+    private static final int LOCAL_MAX_SIZE = 10_000;
+
+    private final NotRecommendedRepository notRecommendedRepository;
+    private final RedisUtil redisUtil;
+    private final Map<Long, BlockSet> localCache = new ConcurrentHashMap<>();
+
+    // 게시글, 댓글 조회 시 제외할 회원 ID (양방향 차단)
+    public List<Long> getHiddenMemberIds(Long memberId) {
+        BlockSet blockSet = getBlockSet(memberId);
+        return LongStream.concat(Arrays.stream(blockSet.blocking()), Arrays.stream(blockSet.blockedBy()))
+                .distinct()
+                .boxed()
+                .toList();
+    }
+
+    // ownerId 회원이 memberId 회원을 차단했는지 확인
+    public boolean isBlockedBy(Long memberId, Long ownerId) {
+        return Arrays.binarySearch(getBlockSet(memberId).blockedBy(), ownerId) >= 0;
+    }
+
+    // 차단 관계 변경 시 캐시 갱신 (트랜잭션 중이면 커밋 이후)
+    public void evict(Long... memberIds) {
+        TransactionUtil.afterCommit(() -> refresh(memberIds));
+    }
+
+    // 커밋된 DB 기준으로 다시 읽어 덮어쓰기 (지우기만 하면 커밋 전에 읽은 조회가 이전 값을 다시 채울 수 있음)
+    private void refresh(Long... memberIds) {
+        for (Long memberId : memberIds) {
+            BlockSet blockSet = loadFromDb(memberId);
+            redisUtil.save(KEY_PREFIX + memberId, toValue(blockSet), REDIS_TTL_MINUTES, TimeUnit.MINUTES);
+            localCache.put(memberId, blockSet);
+        }
+        log.info("[ 차단 캐시 갱신 ] memberIDs:{}", Arrays.toString(memberIds));
+    }
+
+    private BlockSet getBlockSet(Long memberId) {
+
+        // 로컬 캐시
+        BlockSet cached = localCache.get(memberId);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        // Redis -> DB
+        BlockSet blockSet = loadFromRedis(memberId);
+        if (blockSet == null) {
+            blockSet = loadFromDb(memberId);
+            // 없을 때만 채움 : 그 사이 evict 가 저장한 최신 값을 덮어쓰지 않음
+            if (!redisUtil.saveIfAbsent(KEY_PREFIX + memberId, toValue(blockSet), REDIS_TTL_MINUTES, TimeUnit.MINUTES)) {
+                BlockSet latest = loadFromRedis(memberId);
+                if (latest != null) {
+                    blockSet = latest;
+                }
+            }
+        }
+
+        if (localCache.size() >= LOCAL_MAX_SIZE) {
+            localCache.clear();
+        }
+        localCache.put(memberId, blockSet);
+        return blockSet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private BlockSet loadFromRedis(Long memberId) {
+        Object value = redisUtil.get(KEY_PREFIX + memberId);
+        if (!(value instanceof Map<?, ?> map)) {
+            return null;
+        }
+        return toBlockSet(
+                (Collection<? extends Number>) map.get("blocking"),
+                (Collection<? extends Number>) map.get("blockedBy")
+        );
+    }
+
+    private BlockSet loadFromDb(Long memberId) {
+        return toBlockSet(
+                notRecommendedRepository.findBlockingUserList(memberId),
+                notRecommendedRepository.findBlockerList(memberId)
+        );
+    }
+
+    private BlockSet toBlockSet(
+            Collection<? extends Number> blocking,
+            Collection<? extends Number> blockedBy
+    ) {
+        return new BlockSet(
+                toSortedArray(blocking),
+                toSortedArray(blockedBy),
+                System.currentTimeMillis() + LOCAL_TTL_MS
+        );
+    }
+
+    private long[] toSortedArray(Collection<? extends Number> ids) {
+        if (ids == null) {
+            return new long[0];
+        }
+        return ids.stream().mapToLong(Number::longValue).sorted().distinct().toArray();
+    }
+
+    // Jackson 타입 정보로 역직렬화 가능한 가변 컬렉션 사용
+    private Map<String, List<Long>> toValue(BlockSet blockSet) {
+        Map<String, List<Long>> value = new HashMap<>();
+        value.put("blocking", toList(blockSet.blocking()));
+        value.put("blockedBy", toList(blockSet.blockedBy()));
+        return value;
+    }
+
+    private List<Long> toList(long[] ids) {
+        return Arrays.stream(ids).boxed().collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    // blocking: 내가 차단한 회원, blockedBy: 날 차단한 회원
+    private record BlockSet(long[] blocking, long[] blockedBy, long expiresAt) {}
+}
@@ -5,6 +5,7 @@ import com.project.teama_be.domain.notification.enums.NotiStatus;
 import com.project.teama_be.domain.notification.enums.NotiType;
 import com.project.teama_be.domain.post.entity.Post;
 import com.project.teama_be.global.entity.BaseEntity;
+import com.project.teama_be.global.entity.Tsid;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
@@ -24,7 +25,7 @@ public class Noti extends BaseEntity {
 //firebase에서 제공하는 Notification임포트 할 때 중복돼서 Noti로 변경
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -6,6 +6,7 @@ import com.project.teama_be.domain.post.dto.response.PostResDTO;
 import com.project.teama_be.domain.post.service.command.PostCommandService;
 import com.project.teama_be.domain.post.service.query.PostQueryService;
 import com.project.teama_be.global.apiPayload.CustomResponse;
+import com.project.teama_be.global.aws.dto.S3ResDTO;
 import com.project.teama_be.global.security.annotation.CurrentUser;
 import com.project.teama_be.global.security.userdetails.AuthUser;
 import io.swagger.v3.oas.annotations.Operation;
@@ -60,9 +61,18 @@ public class PostController {
             description = "사용자의 현재 위치(위도, 경도)를 기준으로 일정 반경 내의 가게들 중 최신 게시글을 가져옵니다."
     )
     public CustomResponse<PostResDTO.HomePost> getNearbyPosts(
-            @RequestParam double latitude,
-            @RequestParam double longitude,
-            @RequestParam(required = false, defaultValue = "1.0") double radiusKm,
+            @RequestParam
+            @DecimalMin(value = "-90.0", message = "위도는 -90 이상이어야 합니다.")
+            @DecimalMax(value = "90.0", message = "위도는 90 이하이어야 합니다.")
+            double latitude,
+            @RequestParam
+            @DecimalMin(value = "-180.0", message = "경도는 -180 이상이어야 합니다.")
+            @DecimalMax(value = "180.0", message = "경도는 180 이하이어야 합니다.")
+            double longitude,
+            @RequestParam(required = false, defaultValue = "1.0")
+            @Positive(message = "반경은 0보다 커야 합니다.")
+            @DecimalMax(value = "20.0", message = "반경은 최대 20km까지 조회할 수 있습니다.")
+            double radiusKm,
             @CurrentUser AuthUser user
     ) {
 
@@ -75,7 +85,9 @@ public class PostController {
     @Operation(
             summary = "키워드 검색 API by 김주헌",
             description = "키워드를 통해 게시글을 조회합니다. " +
-                    "키워드 종류를 선택해야 합니다. (tag, place, address : 대소문자 구분 X) " +
+                    "키워드 종류를 선택해야 합니다. (tag, place, address, content, all : 대소문자 구분 X) " +
+                    "띄어쓰기와 관계없이 키워드가 포함된 게시글을 검색합니다. " +
+                    "태그, 가게명, 주소도 앞부분뿐 아니라 중간에 포함된 키워드로 검색됩니다. (부분 일치) " +
                     "지역은 도로명 주소 (서울 종로구 홍지문2길 20), " +
                     "지번 주소 (서울 종로구 홍지동 7-1) 모두 검색 가능합니다. " +
                     "커서 기반 페이지네이션, 최신 순으로 정렬합니다."
@@ -98,6 +110,51 @@ public class PostController {
         return CustomResponse.onSuccess(postQueryService.getPostsByKeyword(query, type, cursor, size, user));
     }
 
+    // 검색어 자동완성
+    @GetMapping("/posts/suggestions")
+    @Operation(
+            summary = "검색어 자동완성 API by 김주헌",
+            description = "입력 중인 검색어로 시작하는 태그 또는 가게명을 추천합니다. " +
+                    "키워드 종류를 선택해야 합니다. (tag, place : 대소문자 구분 X) " +
+                    "게시글에 많이 사용된 순으로 정렬하며, 최대 10개까지 조회합니다."
+    )
+    public CustomResponse<PostResDTO.Suggestion> getSuggestions(
+            @RequestParam @NotBlank(message = "키워드가 비어있으면 안됩니다.")
+            String query,
+            @RequestParam @NotBlank(message = "키워드 종류가 비어있으면 안됩니다.")
+            String type,
+            @RequestParam(defaultValue = "10")
+            @Min(value = 1, message = "검색어는 최소 하나 이상 조회해야 합니다.")
+            @Max(value = 10, message = "검색어는 최대 10개까지 조회할 수 있습니다.")
+            int size
+    ) {
+        log.info("[ 검색어 자동완성 ] query:{}, type:{}, size:{}", query, type, size);
+        return CustomResponse.onSuccess(postQueryService.getSuggestions(query, type, size));
+    }
+
+    // 인기 게시글, 가게 조회
+    @GetMapping("/posts/trending")
+    @Operation(
+            summary = "인기 게시글, 가게 조회 API by 김주헌",
+            description = "최근 조회(순 방문자), 좋아요, 댓글을 시간 감쇠 점수로 합산한 인기 순위를 조회합니다. " +
+                    "랭킹 종류를 선택해야 합니다. (post, place : 대소문자 구분 X) " +
+                    "지역은 all, 시/도 (서울), 시/도 + 시/군/구 (서울 종로구) 로 조회할 수 있으며 띄어쓰기는 무시합니다. " +
+                    "최대 50개까지 조회합니다."
+    )
+    public CustomResponse<PostResDTO.Trending> getTrending(
+            @RequestParam(defaultValue = "post") @NotBlank(message = "랭킹 종류가 비어있으면 안됩니다.")
+            String type,
+            @RequestParam(defaultValue = "all") @NotBlank(message = "지역이 비어있으면 안됩니다.")
+            String region,
+            @RequestParam(defaultValue = "10")
+            @Min(value = 1, message = "랭킹은 최소 하나 이상 조회해야 합니다.")
+            @Max(value = 50, message = "랭킹은 최대 50개까지 조회할 수 있습니다.")
+            int size
+    ) {
+        log.info("[ 인기 랭킹 조회 ] type:{}, region:{}, size:{}", type, region, size);
+        return CustomResponse.onSuccess(postQueryService.getTrending(type, region, size));
+    }
+
     // 가게 게시글 모두 조회 ✅
     @GetMapping("/places/{placeId}/posts")
     @Operation(
@@ -220,6 +277,43 @@ public class PostController {
         );
     }
 
+    // 게시글 사진 업로드 URL 발급
+    @PostMapping("/posts/images/presigned-urls")
+    @Operation(
+            summary = "게시글 사진 업로드 URL 발급 API",
+            description = "사진을 S3에 직접 업로드할 수 있는 URL을 발급합니다. (유효시간 10분)\n" +
+                    " 발급받은 uploadUrl로 contentType, contentLength를 그대로 지정해 PUT 요청한 뒤," +
+                    " key를 게시글 업로드(직접 업로드) API에 전달해 주세요."
+    )
+    public CustomResponse<List<S3ResDTO.PresignedUrl>> issuePostImageUrls(
+            @CurrentUser
+            AuthUser user,
+            @RequestBody @Valid
+            PostReqDTO.PresignedImages presignedImages
+    ) {
+
+        log.info("[ 게시글 사진 업로드 URL 발급 ] user:{}, imageCnt:{}", user.getLoginId(), presignedImages.images().size());
+        return CustomResponse.onSuccess(postCommandService.issuePostImageUrls(user, presignedImages));
+    }
+
+    // 게시글 업로드 (직접 업로드한 사진)
+    @PostMapping("/posts/presigned")
+    @Operation(
+            summary = "게시글 업로드 API (직접 업로드)",
+            description = "S3에 직접 업로드한 사진의 key와 게시글 내용으로 게시글을 업로드합니다."
+    )
+    public CustomResponse<PostResDTO.PostUpload> uploadPresignedPost(
+            @CurrentUser
+            AuthUser user,
+            @RequestBody @Valid
+            PostReqDTO.PresignedPostUpload postUpload
+    ) {
+
+        log.info("[ 게시글 업로드 ] user:{}, image:{}, postContent:{}",
+                user.getLoginId(), postUpload.imageKeys().size(), postUpload.postContent().content());
+        return CustomResponse.onSuccess(postCommandService.PostUploadPresigned(user, postUpload));
+    }
+
     // 게시글 좋아요 ✅
     @PostMapping("/posts/{postId}/like")
     @Operation(
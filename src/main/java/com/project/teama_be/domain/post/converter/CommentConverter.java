@@ -3,7 +3,6 @@ package com.project.teama_be.domain.post.converter;
 import com.project.teama_be.domain.member.entity.Member;
 import com.project.teama_be.domain.post.dto.response.CommentResDTO;
 import com.project.teama_be.domain.post.entity.Comment;
-import com.project.teama_be.domain.post.entity.CommentReaction;
 import com.project.teama_be.domain.post.entity.Post;
 import com.project.teama_be.domain.post.enums.ReactionType;
 
@@ -48,27 +47,16 @@ public class CommentConverter {
                 .build();
     }
 
-    // comment, member, reactionType -> CommentReaction
-    public static CommentReaction toCommentReaction(
-            Comment comment,
-            Member member,
-            ReactionType reactionType
-    ){
-        return CommentReaction.builder()
-                .comment(comment)
-                .member(member)
-                .reactionType(reactionType)
-                .build();
-    }
-
     // 댓글 좋아요
     public static CommentResDTO.CommentLike toCommentLike(
-            CommentReaction commentReaction
+            Long commentId,
+            ReactionType reactionType,
+            LocalDateTime updatedAt
     ){
         return CommentResDTO.CommentLike.builder()
-                .commentId(commentReaction.getComment().getId())
-                .reactionType(commentReaction.getReactionType())
-                .updatedAt(commentReaction.getCreatedAt())
+                .commentId(commentId)
+                .reactionType(reactionType)
+                .updatedAt(updatedAt)
                 .build();
     }
 
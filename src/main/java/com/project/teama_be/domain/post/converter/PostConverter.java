@@ -2,13 +2,14 @@ package com.project.teama_be.domain.post.converter;
 
 import com.project.teama_be.domain.location.entity.Location;
 import com.project.teama_be.domain.member.entity.Member;
-import com.project.teama_be.domain.member.entity.RecentlyViewed;
 import com.project.teama_be.domain.post.dto.request.PostReqDTO;
 import com.project.teama_be.domain.post.dto.response.PostResDTO;
 import com.project.teama_be.domain.post.entity.Post;
+import com.project.teama_be.domain.post.entity.PostFeed;
 import com.project.teama_be.domain.post.entity.PostImage;
 import com.project.teama_be.domain.post.entity.PostReaction;
 import com.project.teama_be.domain.post.enums.ReactionType;
+import com.project.teama_be.global.aws.util.S3Util;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -28,11 +29,13 @@ public class PostConverter {
                 .build();
     }
 
-    // 게시글 이미지 저장 : Post, Url -> PostImage
-    public static PostImage toPostImage(Post post, String url){
+    // 게시글 이미지 저장 : Post, 업로드된 사진 -> PostImage
+    public static PostImage toPostImage(Post post, S3Util.UploadedImage image){
         return PostImage.builder()
                 .post(post)
-                .imageUrl(url)
+                .imageUrl(image.originalUrl())
+                .thumbnailUrl(image.thumbnailUrl())
+                .mediumUrl(image.mediumUrl())
                 .build();
     }
 
@@ -58,18 +61,6 @@ public class PostConverter {
                 .build();
     }
 
-    // 최근 본 게시글 추가: Post, Member -> RecentlyViewed
-    public static RecentlyViewed toRecentlyViewed(
-            Post post,
-            Member member
-    ){
-        return RecentlyViewed.builder()
-                .post(post)
-                .member(member)
-                .viewedAt(LocalDateTime.now())
-                .build();
-    }
-
     // 게시글 좋아요 완료 : User, Post, ReactionType -> ResDTO
     public static PostResDTO.PostLike toPostLike(
             PostReaction postReaction
@@ -81,44 +72,90 @@ public class PostConverter {
                 .build();
     }
 
-    // postImageUrl, postId, placeName, placeId -> SimplePost
+    // postImageUrl, postThumbnailUrl, postId, placeName, placeId -> SimplePost
     public static PostResDTO.SimplePost toSimplePost(
             String postImageUrl,
+            String postThumbnailUrl,
             Long postId,
             String placeName,
             Long placeId
     ){
         return PostResDTO.SimplePost.builder()
                 .postImageUrl(postImageUrl)
+                .postThumbnailUrl(postThumbnailUrl)
                 .postId(postId)
                 .placeName(placeName)
                 .placeId(placeId)
                 .build();
     }
 
-    // Info -> FullPost
+    // 읽기 모델 -> FullPost
     public static PostResDTO.FullPost toFullPost(
-            Post post,
-            Member member,
-            List<String> imageList,
-            List<String> tagList,
-            Long commentCount
+            PostFeed postFeed
     ){
         return PostResDTO.FullPost.builder()
-                .nickname(member.getNickname())
-                .profileUrl(member.getProfileUrl())
-                .postImageUrl(imageList)
-                .imageTotalCount((long) imageList.size())
-                .postId(post.getId())
-                .placeId(post.getLocation().getId())
-                .likeCount(post.getLikeCount())
-                .commentCount(commentCount)
-                .placeName(post.getLocation().getPlaceName())
-                .content(post.getContent())
-                .tags(tagList)
+                .nickname(postFeed.getNickname())
+                .profileUrl(postFeed.getProfileUrl())
+                .postImageUrl(postFeed.getImageUrls())
+                .postMediumImageUrl(postFeed.getMediumImageUrls())
+                .imageTotalCount(postFeed.getImageCount())
+                .postId(postFeed.getPostId())
+                .placeId(postFeed.getLocationId())
+                .likeCount(postFeed.getLikeCount())
+                .commentCount(postFeed.getCommentCount())
+                .placeName(postFeed.getPlaceName())
+                .content(postFeed.getContent())
+                .tags(postFeed.getTags())
                 .build();
     }
 
+    // 읽기 모델 -> SimplePost
+    public static PostResDTO.SimplePost toSimplePost(
+            PostFeed postFeed
+    ){
+        return toSimplePost(
+                postFeed.getFirstImageUrl(),
+                postFeed.getFirstThumbnailUrl(),
+                postFeed.getPostId(),
+                postFeed.getPlaceName(),
+                postFeed.getLocationId()
+        );
+    }
+
+    // 검색 인덱스 문서 생성
+    public static PostResDTO.SearchDocument toSearchDocument(
+            Long postId,
+            String content,
+            String placeName,
+            String addressName,
+            String roadAddressName,
+            List<String> tags
+    ){
+        return PostResDTO.SearchDocument.builder()
+                .postId(postId)
+                .content(content)
+                .placeName(placeName)
+                .addressName(addressName)
+                .roadAddressName(roadAddressName)
+                .tags(tags)
+                .build();
+    }
+
+    // 검색 인덱스 문서 생성 : Post, 태그 이름 -> SearchDocument
+    public static PostResDTO.SearchDocument toSearchDocument(
+            Post post,
+            List<String> tags
+    ){
+        return toSearchDocument(
+                post.getId(),
+                post.getContent(),
+                post.getLocation().getPlaceName(),
+                post.getLocation().getAddressName(),
+                post.getLocation().getRoadAddressName(),
+                tags
+        );
+    }
+
     // 홈화면용 게시글 조회: List<SimplePost> -> HomePost
     public static PostResDTO.HomePost toHomePost(
             List<PostResDTO.SimplePost> posts
@@ -128,17 +165,42 @@ public class PostConverter {
                 .build();
     }
 
-    // 홈화면용 위치기반 게시글 조회
-    public static PostResDTO.SimplePost toSimplePost(Post post) {
-        String imageUrl = post.getPostImages().isEmpty()
-                ? null
-                : post.getPostImages().get(0).getImageUrl();
+    // 검색어 자동완성
+    public static PostResDTO.Suggestion toSuggestion(
+            String type,
+            List<String> keywords
+    ){
+        return PostResDTO.Suggestion.builder()
+                .type(type)
+                .keywords(keywords)
+                .build();
+    }
 
-        return PostResDTO.SimplePost.builder()
-                .postId(post.getId())
-                .postImageUrl(imageUrl)
-                .placeId(post.getLocation().getId())
-                .placeName(post.getLocation().getPlaceName())
+    // 인기 게시글, 가게 항목
+    public static PostResDTO.TrendingItem toTrendingItem(
+            Long postId,
+            Long placeId,
+            String placeName,
+            Double score
+    ){
+        return PostResDTO.TrendingItem.builder()
+                .postId(postId)
+                .placeId(placeId)
+                .placeName(placeName)
+                .score(score)
+                .build();
+    }
+
+    // 인기 랭킹
+    public static PostResDTO.Trending toTrending(
+            String type,
+            String region,
+            List<PostResDTO.TrendingItem> items
+    ){
+        return PostResDTO.Trending.builder()
+                .type(type)
+                .region(region)
+                .items(items)
                 .build();
     }
 
@@ -155,6 +217,27 @@ public class PostConverter {
                 .build();
     }
 
+    // 좋아요 수만 바꾼 FullPost (DB 미반영 좋아요 합산용)
+    public static PostResDTO.FullPost toFullPost(
+            PostResDTO.FullPost post,
+            Long likeCount
+    ){
+        return PostResDTO.FullPost.builder()
+                .nickname(post.nickname())
+                .profileUrl(post.profileUrl())
+                .postImageUrl(post.postImageUrl())
+                .postMediumImageUrl(post.postMediumImageUrl())
+                .imageTotalCount(post.imageTotalCount())
+                .postId(post.postId())
+                .placeId(post.placeId())
+                .likeCount(likeCount)
+                .commentCount(post.commentCount())
+                .placeName(post.placeName())
+                .content(post.content())
+                .tags(post.tags())
+                .build();
+    }
+
     // 최근 본 게시글 조회
     public static PostResDTO.RecentPost toRecentlyViewedPost(
             PostResDTO.SimplePost simplePost,
@@ -163,6 +246,7 @@ public class PostConverter {
         return PostResDTO.RecentPost.builder()
                 .PostId(simplePost.postId())
                 .PostImageUrl(simplePost.postImageUrl())
+                .PostThumbnailUrl(simplePost.postThumbnailUrl())
                 .placeName(simplePost.placeName())
                 .placeId(simplePost.placeId())
                 .viewedAt(viewedAt)
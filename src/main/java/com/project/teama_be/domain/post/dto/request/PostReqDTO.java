@@ -1,5 +1,8 @@
 package com.project.teama_be.domain.post.dto.request;
 
+import com.project.teama_be.global.aws.dto.S3ReqDTO;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
@@ -32,6 +35,23 @@ public class PostReqDTO {
             String content
     ) {}
 
+    // 게시글 사진 업로드 URL 발급
+    public record PresignedImages(
+            @NotEmpty(message = "게시글 이미지는 필수 입력값입니다.")
+            @Size(max = 5, message = "게시글 이미지는 최대 5장까지 업로드 가능합니다.")
+            List<@Valid S3ReqDTO.PresignedFile> images
+    ) {}
+
+    // 게시글 업로드 (직접 업로드한 사진 키 + 게시글 정보)
+    public record PresignedPostUpload(
+            @NotEmpty(message = "게시글 이미지는 필수 입력값입니다.")
+            @Size(max = 5, message = "게시글 이미지는 최대 5장까지 업로드 가능합니다.")
+            List<String> imageKeys,
+
+            @Valid @NotNull(message = "게시글 내용은 필수 입력값입니다.")
+            PostUpload postContent
+    ) {}
+
     // 게시글 수정
     public record PostUpdate(
             String content,
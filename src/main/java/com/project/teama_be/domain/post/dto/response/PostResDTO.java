@@ -14,6 +14,7 @@ public class PostResDTO {
             String nickname,
             String profileUrl,
             List<String> postImageUrl,
+            List<String> postMediumImageUrl,
             Long imageTotalCount,
             Long postId,
             Long placeId,
@@ -24,10 +25,22 @@ public class PostResDTO {
             List<String> tags
     ) {}
 
+    // 검색 인덱스 문서 (게시글 내용, 가게 정보, 태그)
+    @Builder
+    public record SearchDocument(
+            Long postId,
+            String content,
+            String placeName,
+            String addressName,
+            String roadAddressName,
+            List<String> tags
+    ) {}
+
     // 간소화된 게시글 (이미지만 보이는 경우)
     @Builder
     public record SimplePost(
             String postImageUrl,
+            String postThumbnailUrl,
             Long postId,
             String placeName,
             Long placeId
@@ -37,6 +50,7 @@ public class PostResDTO {
     @Builder
     public record RecentPost(
             String PostImageUrl,
+            String PostThumbnailUrl,
             Long PostId,
             String placeName,
             Long placeId,
@@ -49,6 +63,30 @@ public class PostResDTO {
             List<SimplePost> simplePost
     ) {}
 
+    // 검색어 자동완성
+    @Builder
+    public record Suggestion(
+            String type,
+            List<String> keywords
+    ) {}
+
+    // 인기 게시글, 가게 (가게 랭킹이면 postId 는 null)
+    @Builder
+    public record TrendingItem(
+            Long postId,
+            Long placeId,
+            String placeName,
+            Double score
+    ) {}
+
+    // 인기 랭킹
+    @Builder
+    public record Trending(
+            String type,
+            String region,
+            List<TrendingItem> items
+    ) {}
+
     // 커서 기반 페이지네이션 틀
     @Builder
     public record PageablePost<T>(
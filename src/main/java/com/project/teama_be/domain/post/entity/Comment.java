@@ -4,6 +4,8 @@ import com.project.teama_be.domain.member.entity.Member;
 import com.project.teama_be.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -17,6 +19,7 @@ import java.util.List;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Getter
+@DynamicUpdate
 @SQLDelete(sql = "UPDATE comment SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @SQLRestriction("deleted_at IS NULL")
 public class Comment extends BaseEntity {
@@ -36,10 +39,17 @@ public class Comment extends BaseEntity {
     @Column(name = "content", nullable = false)
     private String content;
 
+    // 좋아요 수 : 좋아요 토글 시 SQL 증감으로 유지
     @Column(name = "like_count")
     @Builder.Default
     private Long likeCount = 0L;
 
+    // 대댓글 수 : 대댓글 작성, 삭제 시 SQL 증감으로 유지
+    @Column(name = "reply_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long replyCount = 0L;
+
     @Column(name = "parent_id")
     @Builder.Default
     private Long parentId = 0L;
@@ -52,10 +62,6 @@ public class Comment extends BaseEntity {
     private List<CommentReaction> reactions = new ArrayList<>();
 
     // update
-    public void updateLikeCount(Long likeCount) {
-        this.likeCount = likeCount;
-    }
-
     public void updateContent(String content) {
         this.content = content;
     }
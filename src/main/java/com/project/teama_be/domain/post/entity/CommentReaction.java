@@ -11,7 +11,14 @@ import org.hibernate.annotations.SQLRestriction;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comment_reaction")
+@Table(
+        name = "comment_reaction",
+        // 회원당 댓글 반응은 하나 : 토글은 이 키 기준 upsert
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_comment_reaction_comment_member",
+                columnNames = {"comment_id", "member_id"}
+        )
+)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
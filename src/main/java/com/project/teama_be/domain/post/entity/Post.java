@@ -7,6 +7,8 @@ import com.project.teama_be.domain.notification.entity.Noti;
 import com.project.teama_be.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -20,6 +22,7 @@ import java.util.List;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Getter
+@DynamicUpdate
 @SQLDelete(sql = "UPDATE post SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @SQLRestriction("deleted_at IS NULL")
 public class Post extends BaseEntity {
@@ -39,10 +42,17 @@ public class Post extends BaseEntity {
     @Column(name = "content", nullable = false)
     private String content;
 
+    // 좋아요 수 : PostLikeCounter 가 누적한 증감을 주기적으로 SQL 증감으로 반영
     @Column(name = "like_count")
     @Builder.Default
     private Long likeCount = 0L;
 
+    // 댓글 수 (대댓글 제외) : 댓글 작성, 삭제 시 SQL 증감으로 유지
+    @Column(name = "comment_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long commentCount = 0L;
+
     @Column(name = "unlike")
     @Builder.Default
     private Long unlikeCount = 0L;
@@ -91,10 +101,6 @@ public class Post extends BaseEntity {
     private List<RecentlyViewed> recentlyVieweds = new ArrayList<>();
 
     // update
-    public void updateLikeCount(Long likeCount) {
-        this.likeCount = likeCount;
-    }
-
     public void updateContent(String content) {
         this.content = content;
     }
@@ -0,0 +1,83 @@
+package com.project.teama_be.domain.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 게시글 목록 조회용 읽기 모델 : 게시글당 한 행, PostFeedRepository 의 SQL 로만 갱신
+@Entity
+@Immutable
+@Table(
+        name = "post_feed",
+        indexes = {
+                @Index(name = "idx_post_feed_member", columnList = "member_id"),
+                @Index(name = "idx_post_feed_location", columnList = "location_id"),
+                @Index(name = "idx_post_feed_place_name", columnList = "place_name")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class PostFeed {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "nickname")
+    private String nickname;
+
+    @Column(name = "profile_url")
+    private String profileUrl;
+
+    @Column(name = "location_id", nullable = false)
+    private Long locationId;
+
+    @Column(name = "place_name")
+    private String placeName;
+
+    @Column(name = "first_image_url")
+    private String firstImageUrl;
+
+    // 첫 번째 사진 썸네일 (축소본이 없으면 원본)
+    @Column(name = "first_thumbnail_url")
+    private String firstThumbnailUrl;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "image_urls", columnDefinition = "json")
+    private List<String> imageUrls = new ArrayList<>();
+
+    // 중간 크기 사진 목록 (축소본이 없으면 원본)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "medium_image_urls", columnDefinition = "json")
+    private List<String> mediumImageUrls = new ArrayList<>();
+
+    @Column(name = "image_count", nullable = false)
+    private Long imageCount;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "tags", columnDefinition = "json")
+    private List<String> tags = new ArrayList<>();
+
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private Long commentCount;
+
+    @Column(name = "content", nullable = false)
+    private String content;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
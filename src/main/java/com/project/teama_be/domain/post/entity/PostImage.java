@@ -1,6 +1,7 @@
 package com.project.teama_be.domain.post.entity;
 
 import com.project.teama_be.global.entity.BaseEntity;
+import com.project.teama_be.global.entity.Tsid;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
@@ -19,7 +20,7 @@ import java.time.LocalDateTime;
 public class PostImage extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,6 +30,13 @@ public class PostImage extends BaseEntity {
     @Column(name = "image_url", nullable = false)
     private String imageUrl;
 
+    // 축소본 URL : 생성 전(기존 사진)에는 null
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url")
+    private String mediumUrl;
+
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 }
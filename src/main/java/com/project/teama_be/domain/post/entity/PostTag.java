@@ -1,6 +1,7 @@
 package com.project.teama_be.domain.post.entity;
 
 import com.project.teama_be.global.entity.BaseEntity;
+import com.project.teama_be.global.entity.Tsid;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,7 @@ import lombok.*;
 public class PostTag extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,25 @@
+package com.project.teama_be.domain.post.event;
+
+// 게시글 읽기 모델(post_feed) 갱신 이벤트
+public class PostFeedEvent {
+
+    // 게시글 업로드, 수정, 댓글 수 변경
+    public record PostChanged(
+            Long postId
+    ) {}
+
+    // 게시글 삭제
+    public record PostDeleted(
+            Long postId
+    ) {}
+
+    // 회원 닉네임, 프로필 사진 변경
+    public record MemberChanged(
+            Long memberId
+    ) {}
+
+    // 회원 탈퇴
+    public record MemberDeleted(
+            Long memberId
+    ) {}
+}
@@ -17,6 +17,12 @@ public interface CommentQueryDsl {
             int size
     );
 
+    // 대댓글 수 보정 : 실제 대댓글 수와 다른 댓글만 갱신 (ID 구간 단위)
+    long reconcileReplyCount(
+            Long fromCommentId,
+            Long toCommentId
+    );
+
     // 내가 작성한 댓글 조회
     CommentResDTO.PageableComment<CommentResDTO.SimpleComment> getMyComments(
             Predicate builder,
@@ -9,6 +9,7 @@ import com.project.teama_be.domain.post.exception.code.CommentErrorCode;
 import com.querydsl.core.group.GroupBy;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,14 +34,11 @@ public class CommentQueryDslImpl implements CommentQueryDsl{
     ) {
         // 조회할 객체 선언
         QComment comment = QComment.comment;
-        // 서브 쿼리 사용 시 따로 선언해줘야 함
-        QComment child = new QComment("child");
 
         List<CommentResDTO.Comment> comments = jpaQueryFactory
                 .from(comment)
                 .where(subQuery)
                 .orderBy(comment.id.desc())
-                .groupBy(comment.id)
                 .limit(size+1)
                 .transform(GroupBy.groupBy(comment.id).list(
                         Projections.constructor(
@@ -50,9 +48,7 @@ public class CommentQueryDslImpl implements CommentQueryDsl{
                                 comment.member.profileUrl,
                                 comment.content,
                                 comment.likeCount,
-                                select(child.count())
-                                        .from(child)
-                                        .where(child.parentId.eq(comment.id))
+                                comment.replyCount
                         )
                 ));
 
@@ -121,6 +117,30 @@ public class CommentQueryDslImpl implements CommentQueryDsl{
         );
     }
 
+    // 대댓글 수 보정 : 실제 대댓글 수와 다른 댓글만 갱신 (ID 구간 단위)
+    @Override
+    public long reconcileReplyCount(
+            Long fromCommentId,
+            Long toCommentId
+    ) {
+        // 조회할 객체 선언
+        QComment comment = QComment.comment;
+        // 서브 쿼리 사용 시 따로 선언해줘야 함
+        QComment child = new QComment("child");
+
+        // 실제 대댓글 수
+        JPQLQuery<Long> actualCount = select(child.count())
+                .from(child)
+                .where(child.parentId.eq(comment.id));
+
+        return jpaQueryFactory
+                .update(comment)
+                .set(comment.replyCount, actualCount)
+                .where(comment.id.between(fromCommentId, toCommentId)
+                        .and(comment.replyCount.ne(actualCount)))
+                .execute();
+    }
+
     // 내가 작성한 댓글 조회 ✅
     @Override
     public CommentResDTO.PageableComment<CommentResDTO.SimpleComment> getMyComments(
@@ -1,10 +1,30 @@
 package com.project.teama_be.domain.post.repository;
 
 import com.project.teama_be.domain.post.entity.CommentReaction;
+import com.project.teama_be.domain.post.enums.ReactionType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface CommentReactionRepository extends JpaRepository<CommentReaction, Long> {
-    Optional<CommentReaction> findByCommentId(Long commentId);
+
+    // 좋아요 토글 : (댓글, 회원) 유니크 키 기준 upsert 한 번으로 생성 또는 LIKE <-> UNLIKE 전환
+    @Modifying
+    @Query(value = """
+            INSERT INTO comment_reaction (comment_id, member_id, reaction_type, created_at, updated_at)
+            VALUES (:commentId, :memberId, 'LIKE', NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE
+                reaction_type = IF(deleted_at IS NULL AND reaction_type = 'LIKE', 'UNLIKE', 'LIKE'),
+                deleted_at = NULL,
+                updated_at = NOW(6)
+            """, nativeQuery = true)
+    int toggleLike(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
+
+    // 토글 이후 반응 조회 (같은 트랜잭션에서 upsert 한 행이므로 잠금 상태)
+    @Query("SELECT cr.reactionType FROM CommentReaction cr " +
+            "WHERE cr.comment.id = :commentId AND cr.member.id = :memberId")
+    Optional<ReactionType> findReactionType(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
 }
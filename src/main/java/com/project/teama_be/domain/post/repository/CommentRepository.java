@@ -2,6 +2,24 @@ package com.project.teama_be.domain.post.repository;
 
 import com.project.teama_be.domain.post.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long>, CommentQueryDsl{
+
+    // 대댓글 수 증감 (read-modify-write 없이 SQL 에서 원자적으로)
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + :delta WHERE c.id = :commentId")
+    int addReplyCount(@Param("commentId") Long commentId, @Param("delta") long delta);
+
+    // 좋아요 수 증감 (read-modify-write 없이 SQL 에서 원자적으로)
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = COALESCE(c.likeCount, 0) + :delta WHERE c.id = :commentId")
+    int addLikeCount(@Param("commentId") Long commentId, @Param("delta") long delta);
+
+    @Query("SELECT MAX(c.id) FROM Comment c")
+    Optional<Long> findMaxId();
 }
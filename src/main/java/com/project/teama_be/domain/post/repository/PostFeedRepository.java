@@ -0,0 +1,129 @@
+package com.project.teama_be.domain.post.repository;
+
+import com.project.teama_be.domain.post.entity.PostFeed;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostFeedRepository extends JpaRepository<PostFeed, Long> {
+
+    // 원본 테이블 기준으로 읽기 모델 재계산 (ID 구간 단위 upsert, 삭제된 게시글 제외)
+    // JSON_ARRAYAGG 는 집계 순서를 보장하지 않으므로 GROUP_CONCAT(... ORDER BY) 로 사진 순서(ID 순)를 고정
+    // (GROUP_CONCAT 기본 길이 1024 바이트에서 잘리지 않도록 이 쿼리에서만 늘림)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT /*+ SET_VAR(group_concat_max_len = 1048576) */ INTO post_feed (post_id, member_id, nickname, profile_url, location_id, place_name,
+                                   first_image_url, first_thumbnail_url, image_urls, medium_image_urls,
+                                   image_count, tags,
+                                   like_count, comment_count, content, created_at)
+            SELECT p.id, m.id, m.nickname, m.profile_url, l.id, l.place_name,
+                   (SELECT pi.image_url FROM post_image pi
+                     WHERE pi.post_id = p.id AND pi.deleted_at IS NULL
+                     ORDER BY pi.id LIMIT 1),
+                   (SELECT COALESCE(pi.thumbnail_url, pi.image_url) FROM post_image pi
+                     WHERE pi.post_id = p.id AND pi.deleted_at IS NULL
+                     ORDER BY pi.id LIMIT 1),
+                   CAST(CONCAT('[', COALESCE((SELECT GROUP_CONCAT(JSON_QUOTE(pi.image_url) ORDER BY pi.id)
+                                                FROM post_image pi
+                                               WHERE pi.post_id = p.id AND pi.deleted_at IS NULL), ''), ']') AS JSON),
+                   CAST(CONCAT('[', COALESCE((SELECT GROUP_CONCAT(JSON_QUOTE(COALESCE(pi.medium_url, pi.image_url)) ORDER BY pi.id)
+                                                FROM post_image pi
+                                               WHERE pi.post_id = p.id AND pi.deleted_at IS NULL), ''), ']') AS JSON),
+                   (SELECT COUNT(*) FROM post_image pi
+                     WHERE pi.post_id = p.id AND pi.deleted_at IS NULL),
+                   CAST(CONCAT('[', COALESCE((SELECT GROUP_CONCAT(JSON_QUOTE(t.tag_name) ORDER BY pt.id)
+                                                FROM post_tag pt JOIN tag t ON t.id = pt.tag_id
+                                               WHERE pt.post_id = p.id), ''), ']') AS JSON),
+                   COALESCE(p.like_count, 0), p.comment_count, p.content, p.created_at
+              FROM post p
+              JOIN member m ON m.id = p.member_id
+              JOIN location l ON l.id = p.location_id
+             WHERE p.id BETWEEN :fromPostId AND :toPostId
+               AND p.deleted_at IS NULL
+            ON DUPLICATE KEY UPDATE
+                member_id = VALUES(member_id),
+                nickname = VALUES(nickname),
+                profile_url = VALUES(profile_url),
+                location_id = VALUES(location_id),
+                place_name = VALUES(place_name),
+                first_image_url = VALUES(first_image_url),
+                first_thumbnail_url = VALUES(first_thumbnail_url),
+                image_urls = VALUES(image_urls),
+                medium_image_urls = VALUES(medium_image_urls),
+                image_count = VALUES(image_count),
+                tags = VALUES(tags),
+                like_count = VALUES(like_count),
+                comment_count = VALUES(comment_count),
+                content = VALUES(content),
+                created_at = VALUES(created_at)
+            """, nativeQuery = true)
+    int refresh(@Param("fromPostId") Long fromPostId, @Param("toPostId") Long toPostId);
+
+    // 삭제된(또는 없는) 게시글의 읽기 모델 정리 (ID 구간 단위)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            DELETE f FROM post_feed f
+              LEFT JOIN post p ON p.id = f.post_id AND p.deleted_at IS NULL
+             WHERE f.post_id BETWEEN :fromPostId AND :toPostId
+               AND p.id IS NULL
+            """, nativeQuery = true)
+    int deleteStale(@Param("fromPostId") Long fromPostId, @Param("toPostId") Long toPostId);
+
+    // 원본과 다른 읽기 모델 수 (누락, 잔존, 주요 컬럼 불일치, 사진 순서 불일치)
+    @Query(value = """
+            SELECT /*+ SET_VAR(group_concat_max_len = 1048576) */
+              (SELECT COUNT(*)
+                 FROM post p
+                 JOIN member m ON m.id = p.member_id
+                 JOIN location l ON l.id = p.location_id
+                 LEFT JOIN post_feed f ON f.post_id = p.id
+                WHERE p.id BETWEEN :fromPostId AND :toPostId
+                  AND p.deleted_at IS NULL
+                  AND (f.post_id IS NULL
+                       OR NOT (f.nickname <=> m.nickname)
+                       OR NOT (f.profile_url <=> m.profile_url)
+                       OR f.location_id <> l.id
+                       OR NOT (f.place_name <=> l.place_name)
+                       OR f.like_count <> COALESCE(p.like_count, 0)
+                       OR f.comment_count <> p.comment_count
+                       OR f.content <> p.content
+                       OR f.medium_image_urls IS NULL
+                       OR f.image_count <> (SELECT COUNT(*) FROM post_image pi
+                                             WHERE pi.post_id = p.id AND pi.deleted_at IS NULL)
+                       OR f.image_urls <> CAST(CONCAT('[', COALESCE(
+                              (SELECT GROUP_CONCAT(JSON_QUOTE(pi.image_url) ORDER BY pi.id)
+                                 FROM post_image pi
+                                WHERE pi.post_id = p.id AND pi.deleted_at IS NULL), ''), ']') AS JSON)
+                       OR f.medium_image_urls <> CAST(CONCAT('[', COALESCE(
+                              (SELECT GROUP_CONCAT(JSON_QUOTE(COALESCE(pi.medium_url, pi.image_url)) ORDER BY pi.id)
+                                 FROM post_image pi
+                                WHERE pi.post_id = p.id AND pi.deleted_at IS NULL), ''), ']') AS JSON)
+                       OR JSON_LENGTH(f.tags) <> (SELECT COUNT(*) FROM post_tag pt WHERE pt.post_id = p.id)))
+            + (SELECT COUNT(*)
+                 FROM post_feed f
+                 LEFT JOIN post p ON p.id = f.post_id AND p.deleted_at IS NULL
+                WHERE f.post_id BETWEEN :fromPostId AND :toPostId
+                  AND p.id IS NULL)
+            """, nativeQuery = true)
+    long countMismatches(@Param("fromPostId") Long fromPostId, @Param("toPostId") Long toPostId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM post_feed WHERE post_id = :postId", nativeQuery = true)
+    int deleteByPostId(@Param("postId") Long postId);
+
+    // 회원 닉네임, 프로필 사진 반영
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE post_feed f
+              JOIN member m ON m.id = f.member_id
+               SET f.nickname = m.nickname,
+                   f.profile_url = m.profile_url
+             WHERE f.member_id = :memberId
+            """, nativeQuery = true)
+    int refreshMember(@Param("memberId") Long memberId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM post_feed WHERE member_id = :memberId", nativeQuery = true)
+    int deleteByMemberId(@Param("memberId") Long memberId);
+}
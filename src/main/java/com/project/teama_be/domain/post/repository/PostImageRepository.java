@@ -2,6 +2,23 @@ package com.project.teama_be.domain.post.repository;
 
 import com.project.teama_be.domain.post.entity.PostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface PostImageRepository extends JpaRepository<PostImage, Long> {
+
+    // 축소본이 없는 사진 조회 (ID 오름차순, 백필용)
+    List<PostImage> findTop100ByIdGreaterThanAndThumbnailUrlIsNullOrderByIdAsc(Long lastId);
+
+    // 축소본 URL 반영
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PostImage pi SET pi.thumbnailUrl = :thumbnailUrl, pi.mediumUrl = :mediumUrl WHERE pi.id = :id")
+    int updateVariantUrls(
+            @Param("id") Long id,
+            @Param("thumbnailUrl") String thumbnailUrl,
+            @Param("mediumUrl") String mediumUrl
+    );
 }
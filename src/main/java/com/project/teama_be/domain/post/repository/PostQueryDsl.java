@@ -4,6 +4,7 @@ import com.project.teama_be.domain.post.dto.response.PostResDTO;
 import com.querydsl.core.types.Predicate;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PostQueryDsl {
 
@@ -13,6 +14,11 @@ public interface PostQueryDsl {
             List<String> query
     );
 
+    // 각 위치 최신 게시글 조회
+    List<PostResDTO.SimplePost> getLatestPostPerLocation(
+            Predicate subQuery
+    );
+
     // 키워드 검색
     PostResDTO.PageablePost<PostResDTO.FullPost> getPostsByKeyword(
             String query,
@@ -38,9 +44,37 @@ public interface PostQueryDsl {
             int size
     );
 
-    // 최근 본 게시글 조회
-    PostResDTO.PageablePost<PostResDTO.RecentPost> getRecentlyViewedPost(
-            Predicate subQuery,
+    // 검색 인덱스 재구축용 게시글 조회 (ID 오름차순)
+    List<PostResDTO.SearchDocument> getSearchDocuments(
+            Long lastPostId,
+            int size
+    );
+
+    // 검색 인덱스 색인 시작 ID : 최신 size 번째 게시글 ID (게시글이 더 적으면 null)
+    Long getSearchWindowStartId(
             int size
     );
+
+    // 게시글 ID 조회 (최신 순, 검색 인덱스 범위 밖 키워드 검색)
+    List<Long> getPostIds(
+            Predicate subQuery,
+            int limit
+    );
+
+    // 태그별 사용 횟수 조회 (자동완성 가중치)
+    Map<String, Long> getTagUsageCounts();
+
+    // 가게별 게시글 수 조회 (자동완성 가중치)
+    Map<String, Long> getPlacePostCounts();
+
+    // 댓글 수 보정 : 실제 댓글 수와 다른 게시글만 갱신 (ID 구간 단위)
+    long reconcileCommentCount(
+            Long fromPostId,
+            Long toPostId
+    );
+
+    // 간소화된 게시글 목록 조회 (첫 번째 사진 포함)
+    List<PostResDTO.SimplePost> getSimplePosts(
+            Predicate subQuery
+    );
 }
@@ -1,25 +1,26 @@
 package com.project.teama_be.domain.post.repository;
 
 
-import com.project.teama_be.domain.member.entity.QRecentlyViewed;
-import com.project.teama_be.domain.member.repository.RecentlyViewedRepository;
 import com.project.teama_be.domain.post.converter.PostConverter;
 import com.project.teama_be.domain.post.dto.response.PostResDTO;
 import com.project.teama_be.domain.post.entity.*;
 import com.project.teama_be.domain.post.exception.PostException;
 import com.project.teama_be.domain.post.exception.code.PostErrorCode;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.group.GroupBy;
 import com.querydsl.core.types.Predicate;
-import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 @Slf4j
 @Repository
@@ -27,7 +28,6 @@ import java.util.Map;
 public class PostQueryDslImpl implements PostQueryDsl{
 
     private final JPAQueryFactory jpaQueryFactory;
-    private final RecentlyViewedRepository recentlyViewedRepository;
 
     // 각 가게 최신 게시글 조회
     @Override
@@ -36,52 +36,53 @@ public class PostQueryDslImpl implements PostQueryDsl{
             List<String> query
     ) {
 
-        // 조회할 객체 선언
-        QPost post = QPost.post;
-        QPostImage postImage = QPostImage.postImage;
+        // 가게별 최신 게시글 하나씩만 조회
+        List<PostResDTO.SimplePost> latestPosts = getLatestPostPerLocation(subQuery);
 
-        // 조건에 맞는 게시글 모두 조회
-        List<PostResDTO.SimplePost> posts = jpaQueryFactory
-                .from(post)
-                .leftJoin(postImage).on(postImage.post.id.eq(post.id))
-                .where(subQuery)
-                .orderBy(post.id.desc())
-                .transform(GroupBy.groupBy(post.location.id).list(
-                        Projections.constructor(
-                                PostResDTO.SimplePost.class,
-                                postImage.imageUrl,
-                                post.id,
-                                post.location.placeName,
-                                post.location.id
-                        )
-                ));
-
-        // 가게의 게시글이 없거나 해당 가게가 없는 경우
-        List<PostResDTO.SimplePost> result = new ArrayList<>();
-        for (String eachQuery : query) {
-            boolean isExist = false;
-            for (PostResDTO.SimplePost eachPost : posts) {
-                if (eachPost.placeName().equals(eachQuery)) {
-                    result.add(eachPost);
-                    isExist = true;
-                    break;
-                }
-            }
-            if (!isExist) {
-                PostResDTO.SimplePost emptyPost = PostConverter.toSimplePost(
-                        null,
-                        null,
-                        eachQuery,
-                        null
-                );
-                result.add(emptyPost);
-            }
+        // 가게명 -> 게시글 (같은 가게명이 여러 위치에 있으면 최신 게시글 우선)
+        Map<String, PostResDTO.SimplePost> postByPlaceName = new HashMap<>();
+        for (PostResDTO.SimplePost eachPost : latestPosts) {
+            postByPlaceName.putIfAbsent(eachPost.placeName(), eachPost);
         }
 
+        // 가게의 게시글이 없거나 해당 가게가 없는 경우 빈 게시글
+        List<PostResDTO.SimplePost> result = query.stream()
+                .map(eachQuery -> postByPlaceName.getOrDefault(
+                        eachQuery,
+                        PostConverter.toSimplePost(null, null, null, eachQuery, null)
+                ))
+                .toList();
+
         log.info("[ 게시글 조회 ] postCnt:{}", result.size());
         return PostConverter.toHomePost(result);
     }
 
+    // 각 위치 최신 게시글 조회 (최신 순, 읽기 모델)
+    @Override
+    public List<PostResDTO.SimplePost> getLatestPostPerLocation(
+            Predicate subQuery
+    ) {
+
+        // 조회할 객체 선언 : 서브쿼리(subQuery)가 postFeed 별칭을 사용하므로 바깥 쿼리는 별도 별칭 사용
+        QPostFeed postFeed = QPostFeed.postFeed;
+        QPostFeed latest = new QPostFeed("latest");
+
+        // 위치별 최신 게시글 하나씩만 조회 (위치별 MAX(id)), 첫 번째 사진은 읽기 모델에 포함
+        return jpaQueryFactory
+                .selectFrom(latest)
+                .where(latest.postId.in(
+                        JPAExpressions.select(postFeed.postId.max())
+                                .from(postFeed)
+                                .where(subQuery)
+                                .groupBy(postFeed.locationId)
+                ))
+                .orderBy(latest.postId.desc())
+                .fetch()
+                .stream()
+                .map(PostConverter::toSimplePost)
+                .toList();
+    }
+
     // 키워드 검색 ✅
     @Override
     public PostResDTO.PageablePost<PostResDTO.FullPost> getPostsByKeyword(
@@ -90,15 +91,14 @@ public class PostQueryDslImpl implements PostQueryDsl{
             int size
     ) {
         // 조회할 객체 선언
-        QPost post = QPost.post;
-        QPostTag postTag = QPostTag.postTag;
+        QPostFeed postFeed = QPostFeed.postFeed;
 
-        // 조건에 맞는 게시글 모두 조회
-        List<Post> postList = jpaQueryFactory
-                .selectFrom(post)
-                .leftJoin(postTag).on(postTag.post.id.eq(post.id))
+        // 조건에 맞는 게시글 size+1개 조회 (검색 인덱스 후보 ID 조건 포함)
+        List<PostFeed> postList = jpaQueryFactory
+                .selectFrom(postFeed)
                 .where(subQuery)
-                .orderBy(post.id.desc())
+                .orderBy(postFeed.postId.desc())
+                .limit(size+1)
                 .fetch();
 
         // 결과가 존재하지 않을때
@@ -106,12 +106,7 @@ public class PostQueryDslImpl implements PostQueryDsl{
             throw new PostException(PostErrorCode.NOT_FOUND_KEYWORD);
         }
 
-        // 메타데이터 생성
-        PostResDTO.Cursor cursor = createIdCursor(postList, size);
-
-        // 데이터 생성
-        List<PostResDTO.FullPost> result = findFullPostAttribute(postList, cursor);
-        return PostConverter.toPageablePost(result, cursor);
+        return toPageablePost(postList, size, PostConverter::toFullPost);
     }
 
     // 내가 작성한 게시글 조회 ✅
@@ -121,13 +116,14 @@ public class PostQueryDslImpl implements PostQueryDsl{
             int size
     ) {
         // 조회할 객체 선언
-        QPost post = QPost.post;
+        QPostFeed postFeed = QPostFeed.postFeed;
 
-        // 조건에 맞는 게시글 모두 조회
-        List<Post> postList = jpaQueryFactory
-                .selectFrom(post)
+        // 조건에 맞는 게시글 size+1개 조회
+        List<PostFeed> postList = jpaQueryFactory
+                .selectFrom(postFeed)
                 .where(subQuery)
-                .orderBy(post.id.desc())
+                .orderBy(postFeed.postId.desc())
+                .limit(size+1)
                 .fetch();
 
         // 결과가 존재하지 않을때
@@ -135,13 +131,7 @@ public class PostQueryDslImpl implements PostQueryDsl{
             throw new PostException(PostErrorCode.NOT_FOUND);
         }
 
-        // 메타데이터 생성
-        PostResDTO.Cursor cursor = createIdCursor(postList, size);
-
-        // 데이터 생성
-        List<PostResDTO.SimplePost> result = findSimplePostAttribute(postList, cursor);
-
-        return PostConverter.toPageablePost(result, cursor);
+        return toPageablePost(postList, size, PostConverter::toSimplePost);
     }
 
     // 내가 좋아요 누른 게시글 조회 ✅
@@ -150,15 +140,16 @@ public class PostQueryDslImpl implements PostQueryDsl{
             int size
     ){
         // 조회할 객체 선언
-        QPost post = QPost.post;
+        QPostFeed postFeed = QPostFeed.postFeed;
         QPostReaction postReaction = QPostReaction.postReaction;
 
-        // 조건에 맞는 게시글 모두 조회
-        List<Post> postList = jpaQueryFactory
-                .selectFrom(post)
-                .leftJoin(postReaction).on(postReaction.post.id.eq(post.id))
+        // 조건에 맞는 게시글 size+1개 조회
+        List<PostFeed> postList = jpaQueryFactory
+                .selectFrom(postFeed)
+                .join(postReaction).on(postReaction.post.id.eq(postFeed.postId))
                 .where(subQuery)
-                .orderBy(post.id.desc())
+                .orderBy(postFeed.postId.desc())
+                .limit(size+1)
                 .fetch();
 
         // 결과가 존재하지 않을때
@@ -166,13 +157,7 @@ public class PostQueryDslImpl implements PostQueryDsl{
             throw new PostException(PostErrorCode.NOT_FOUND);
         }
 
-        // 메타데이터 생성
-        PostResDTO.Cursor cursor = createIdCursor(postList, size);
-
-        // 데이터 생성
-        List<PostResDTO.SimplePost> result = findSimplePostAttribute(postList, cursor);
-
-        return PostConverter.toPageablePost(result, cursor);
+        return toPageablePost(postList, size, PostConverter::toSimplePost);
     }
 
     // 가게 게시글 모두 조회 ✅
@@ -182,13 +167,14 @@ public class PostQueryDslImpl implements PostQueryDsl{
             int size
     ) {
         // 조회할 객체 선언
-        QPost post = QPost.post;
+        QPostFeed postFeed = QPostFeed.postFeed;
 
-        // 조건에 맞는 게시글 모두 조회
-        List<Post> postList = jpaQueryFactory
-                .selectFrom(post)
+        // 조건에 맞는 게시글 size+1개 조회
+        List<PostFeed> postList = jpaQueryFactory
+                .selectFrom(postFeed)
                 .where(subQuery)
-                .orderBy(post.id.desc())
+                .orderBy(postFeed.postId.desc())
+                .limit(size+1)
                 .fetch();
 
         // 결과가 존재하지 않을때
@@ -196,179 +182,200 @@ public class PostQueryDslImpl implements PostQueryDsl{
             throw new PostException(PostErrorCode.NOT_FOUND);
         }
 
-        // 메타데이터 생성
-        PostResDTO.Cursor cursor = createIdCursor(postList, size);
-
-        // 데이터 생성
-        List<PostResDTO.FullPost> result = findFullPostAttribute(postList, cursor);
-
-        return PostConverter.toPageablePost(result, cursor);
+        return toPageablePost(postList, size, PostConverter::toFullPost);
     }
 
-    // 최근 본 게시글 조회
+    // 검색 인덱스 재구축용 게시글 조회 (ID 오름차순)
     @Override
-    public PostResDTO.PageablePost<PostResDTO.RecentPost> getRecentlyViewedPost(
-            Predicate subQuery,
+    public List<PostResDTO.SearchDocument> getSearchDocuments(
+            Long lastPostId,
             int size
     ) {
         // 조회할 객체 선언
-        QRecentlyViewed recentlyViewed = QRecentlyViewed.recentlyViewed;
+        QPost post = QPost.post;
+        QPostTag postTag = QPostTag.postTag;
 
-        // 조건에 맞는 게시글 모두 조회
-        List<Post> postList = jpaQueryFactory
-                .select(recentlyViewed.post)
-                .from(recentlyViewed)
-                .where(subQuery)
-                .orderBy(recentlyViewed.viewedAt.desc())
-                .limit(size+1)
+        // 게시글 + 가게 정보 조회
+        List<Tuple> postList = jpaQueryFactory
+                .select(
+                        post.id,
+                        post.content,
+                        post.location.placeName,
+                        post.location.addressName,
+                        post.location.roadAddressName
+                )
+                .from(post)
+                .where(post.id.gt(lastPostId))
+                .orderBy(post.id.asc())
+                .limit(size)
                 .fetch();
 
-        // 결과가 존재하지 않을때
         if (postList.isEmpty()) {
-            throw new PostException(PostErrorCode.VIEWED_POST_NOT_FOUND);
+            return Collections.emptyList();
         }
 
-        // 메타데이터 생성
-        Boolean hasNext = postList.size() > size;
-        int pageSize = Math.min(postList.size(), size);
-        Long LastPostId = postList.size() > size ?
-                postList.get(pageSize).getId() : postList.get(pageSize-1).getId();
-        String nextCursor = recentlyViewedRepository
-                .findByPostId(LastPostId).getViewedAt().toString();
-
-        PostResDTO.Cursor cursor = PostConverter.toCursor(nextCursor, hasNext, pageSize);
+        // 게시글 태그 조회
+        List<Long> postIdList = postList.stream()
+                .map(eachPost -> eachPost.get(post.id))
+                .toList();
+        Map<Long, List<String>> postTagList = jpaQueryFactory
+                .from(postTag)
+                .where(postTag.post.id.in(postIdList))
+                .transform(
+                        GroupBy.groupBy(postTag.post.id).as(
+                                GroupBy.list(postTag.tag.tagName)
+                        )
+                );
 
-        // 데이터 생성
-        List<PostResDTO.RecentPost> result = findSimplePostAttribute(postList, cursor).stream()
+        return postList.stream()
                 .map(eachPost ->
-                        PostConverter.toRecentlyViewedPost(
-                                eachPost,
-                                recentlyViewedRepository
-                                        .findByPostId(eachPost.postId()).getViewedAt())
-                ).toList();
-
-        return PostConverter.toPageablePost(result, cursor);
+                        PostConverter.toSearchDocument(
+                                eachPost.get(post.id),
+                                eachPost.get(post.content),
+                                eachPost.get(post.location.placeName),
+                                eachPost.get(post.location.addressName),
+                                eachPost.get(post.location.roadAddressName),
+                                postTagList.getOrDefault(eachPost.get(post.id), Collections.emptyList())
+                        )
+                )
+                .toList();
     }
 
-    // ID 커서 생성
-    private PostResDTO.Cursor createIdCursor(
-            List<Post> postList,
+    // 검색 인덱스 색인 시작 ID : 최신 size 번째 게시글 ID (게시글이 더 적으면 null)
+    @Override
+    public Long getSearchWindowStartId(
             int size
-    ){
-        // 커서 지정
-        Boolean hasNext = postList.size() > size;
-        int pageSize = Math.min(postList.size(), size);
-        Long nextCursor = postList.size() > size ?
-                postList.get(pageSize).getId() : postList.get(pageSize-1).getId();
+    ) {
+        // 조회할 객체 선언
+        QPost post = QPost.post;
 
-        return PostConverter.toCursor(nextCursor.toString(), hasNext, pageSize);
+        return jpaQueryFactory
+                .select(post.id)
+                .from(post)
+                .orderBy(post.id.desc())
+                .offset(size - 1)
+                .fetchFirst();
     }
 
-    // SimplePost 부가 속성들 조회: 여러번 쿼리문 날리는 방식 -> 서브쿼리로 묶는 방식 으로 변경해야 함
-    private List<PostResDTO.SimplePost> findSimplePostAttribute(
-            List<Post> postList,
-            PostResDTO.Cursor cursor
-    ){
+    // 게시글 ID 조회 (최신 순, 검색 인덱스 범위 밖 키워드 검색)
+    @Override
+    public List<Long> getPostIds(
+            Predicate subQuery,
+            int limit
+    ) {
         // 조회할 객체 선언
-        QPostImage postImage = QPostImage.postImage;
+        QPost post = QPost.post;
 
-        // 게시글 size 조절
-        postList = postList.subList(0, cursor.pageSize());
+        return jpaQueryFactory
+                .select(post.id)
+                .from(post)
+                .where(subQuery)
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
 
-        // 게시글 ID 목록
-        List<Long> postIdList = postList.stream()
-                .map(Post::getId)
-                .toList();
+    // 태그별 사용 횟수 조회 (자동완성 가중치)
+    @Override
+    public Map<String, Long> getTagUsageCounts() {
 
-        // 게시글 사진 조회
-        Map<Long, String> postImageList = jpaQueryFactory
-                .from(postImage)
-                .where(postImage.post.id.in(postIdList))
+        // 조회할 객체 선언
+        QPostTag postTag = QPostTag.postTag;
+
+        return jpaQueryFactory
+                .from(postTag)
+                .groupBy(postTag.tag.tagName)
                 .transform(
-                        GroupBy.groupBy(postImage.post.id).as(postImage.imageUrl)
+                        GroupBy.groupBy(postTag.tag.tagName).as(postTag.count())
                 );
-
-        // 합치기
-        List<PostResDTO.SimplePost> result = postList.stream()
-                .map(eachPost ->
-                        PostConverter.toSimplePost(
-                                postImageList.getOrDefault(eachPost.getId(), null),
-                                eachPost.getId(),
-                                eachPost.getLocation().getPlaceName(),
-                                eachPost.getLocation().getId()
-                        )
-                )
-                .toList();
-
-        log.info("[ 게시글 페이지네이션 ] resultCnt:{}, hasNext:{}, pageSize:{}, nextCursor:{}",
-                result.size(), cursor.hasNext(), cursor.pageSize(), cursor.nextCursor());
-        return result;
     }
 
-    // FullPost 부가 속성들 조회: 여러번 쿼리문 날리는 방식 -> 서브쿼리로 묶는 방식 으로 변경해야 함
-    private List<PostResDTO.FullPost> findFullPostAttribute(
-            List<Post> postList,
-            PostResDTO.Cursor cursor
-    ){
+    // 가게별 게시글 수 조회 (자동완성 가중치)
+    @Override
+    public Map<String, Long> getPlacePostCounts() {
 
         // 조회할 객체 선언
-        QPostImage postImage = QPostImage.postImage;
-        QComment comment = QComment.comment;
-        QPostTag postTag = QPostTag.postTag;
-
-        // 게시글 size 조절
-        postList = postList.subList(0, cursor.pageSize());
+        QPost post = QPost.post;
 
-        // 게시글 ID 목록
-        List<Long> postIdList = postList.stream()
-                .map(Post::getId)
-                .toList();
-        // 게시글 사진 조회
-        Map<Long, List<String>> postImageList = jpaQueryFactory
-                .from(postImage)
-                .where(postImage.post.id.in(postIdList))
+        return jpaQueryFactory
+                .from(post)
+                .groupBy(post.location.placeName)
                 .transform(
-                        GroupBy.groupBy(postImage.post.id).as(
-                                GroupBy.list(postImage.imageUrl)
-                        )
+                        GroupBy.groupBy(post.location.placeName).as(post.count())
                 );
+    }
 
-        // 게시글 태그 조회
-        Map<Long, List<String>> postTagList = jpaQueryFactory
-                .from(postTag)
-                .where(postTag.post.id.in(postIdList))
-                .transform(
-                        GroupBy.groupBy(postTag.post.id).as(
-                                GroupBy.list(postTag.tag.tagName)
-                        )
-                );
+    // 댓글 수 보정 : 실제 댓글 수와 다른 게시글만 갱신 (ID 구간 단위)
+    @Override
+    public long reconcileCommentCount(
+            Long fromPostId,
+            Long toPostId
+    ) {
+        // 조회할 객체 선언
+        QPost post = QPost.post;
+        QComment comment = QComment.comment;
 
-        // 게시글 댓글 개수 조회
-        Map<Long, Long> commentList = jpaQueryFactory
+        // 실제 댓글 수 (대댓글 제외)
+        JPQLQuery<Long> actualCount = JPAExpressions.select(comment.count())
                 .from(comment)
-                .where(comment.post.id.in(postIdList).and(comment.parentId.eq(0L)))
-                .groupBy(comment.post.id)
-                .transform(
-                        GroupBy.groupBy(comment.post.id).as(
-                                comment.count()
-                        )
-                );
+                .where(comment.post.id.eq(post.id)
+                        .and(comment.parentId.eq(0L)));
+
+        return jpaQueryFactory
+                .update(post)
+                .set(post.commentCount, actualCount)
+                .where(post.id.between(fromPostId, toPostId)
+                        .and(post.commentCount.ne(actualCount)))
+                .execute();
+    }
 
-        // 합치기
-        List<PostResDTO.FullPost> result = postList.stream()
-                .map(eachPost ->
-                        PostConverter.toFullPost(
-                                eachPost,
-                                eachPost.getMember(),
-                                postImageList.getOrDefault(eachPost.getId(), Collections.emptyList()),
-                                postTagList.getOrDefault(eachPost.getId(), Collections.emptyList()),
-                                commentList.getOrDefault(eachPost.getId(), 0L)
-                        )
-                )
+    // 간소화된 게시글 목록 조회 (첫 번째 사진 포함, 순서 보장 X, 읽기 모델)
+    @Override
+    public List<PostResDTO.SimplePost> getSimplePosts(
+            Predicate subQuery
+    ) {
+        // 조회할 객체 선언
+        QPostFeed postFeed = QPostFeed.postFeed;
+
+        return jpaQueryFactory
+                .selectFrom(postFeed)
+                .where(subQuery)
+                .fetch()
+                .stream()
+                .map(PostConverter::toSimplePost)
+                .toList();
+    }
+
+    // 읽기 모델 size+1개 -> 커서 + 페이지 (size+1번째는 다음 커서로만 사용)
+    private <T> PostResDTO.PageablePost<T> toPageablePost(
+            List<PostFeed> postList,
+            int size,
+            Function<PostFeed, T> converter
+    ){
+        // 메타데이터 생성
+        PostResDTO.Cursor cursor = createIdCursor(postList.stream().map(PostFeed::getPostId).toList(), size);
+
+        // 데이터 생성
+        List<T> result = postList.subList(0, cursor.pageSize()).stream()
+                .map(converter)
                 .toList();
 
         log.info("[ 게시글 페이지네이션 ] resultCnt:{}, hasNext:{}, pageSize:{}, nextCursor:{}",
                 result.size(), cursor.hasNext(), cursor.pageSize(), cursor.nextCursor());
-        return result;
+        return PostConverter.toPageablePost(result, cursor);
+    }
+
+    // ID 커서 생성 : 게시글 ID 목록 기준
+    private PostResDTO.Cursor createIdCursor(
+            List<Long> postIdList,
+            int size
+    ){
+        // 커서 지정
+        Boolean hasNext = postIdList.size() > size;
+        int pageSize = Math.min(postIdList.size(), size);
+        Long nextCursor = postIdList.size() > size ?
+                postIdList.get(pageSize) : postIdList.get(pageSize-1);
+
+        return PostConverter.toCursor(nextCursor.toString(), hasNext, pageSize);
     }
 }
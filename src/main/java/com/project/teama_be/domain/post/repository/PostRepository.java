@@ -1,8 +1,10 @@
 package com.project.teama_be.domain.post.repository;
 
-import com.project.teama_be.domain.location.entity.Location;
 import com.project.teama_be.domain.post.entity.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -10,5 +12,15 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostQueryDsl
 
     Optional<Post> findPostById(Long postId);
 
-    Post findTopByLocationOrderByCreatedAtDesc(Location location);
+    // 댓글 수 증감 (read-modify-write 없이 SQL 에서 원자적으로)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // 게시글 가게 ID 조회 (존재 여부 확인 겸용)
+    @Query("SELECT p.location.id FROM Post p WHERE p.id = :postId")
+    Optional<Long> findLocationIdById(@Param("postId") Long postId);
+
+    @Query("SELECT MAX(p.id) FROM Post p")
+    Optional<Long> findMaxId();
 }
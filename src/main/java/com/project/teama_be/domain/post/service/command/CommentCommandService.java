@@ -4,7 +4,7 @@ package com.project.teama_be.domain.post.service.command;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.project.teama_be.domain.member.entity.Member;
 import com.project.teama_be.domain.member.repository.MemberRepository;
-import com.project.teama_be.domain.member.repository.NotRecommendedRepository;
+import com.project.teama_be.domain.member.service.query.BlockQueryService;
 import com.project.teama_be.domain.notification.enums.NotiType;
 import com.project.teama_be.domain.notification.exception.NotiException;
 import com.project.teama_be.domain.notification.exception.code.NotiErrorCode;
@@ -12,9 +12,9 @@ import com.project.teama_be.domain.notification.service.NotiService;
 import com.project.teama_be.domain.post.converter.CommentConverter;
 import com.project.teama_be.domain.post.dto.response.CommentResDTO;
 import com.project.teama_be.domain.post.entity.Comment;
-import com.project.teama_be.domain.post.entity.CommentReaction;
 import com.project.teama_be.domain.post.entity.Post;
 import com.project.teama_be.domain.post.enums.ReactionType;
+import com.project.teama_be.domain.post.event.PostFeedEvent;
 import com.project.teama_be.domain.post.exception.CommentException;
 import com.project.teama_be.domain.post.exception.PostException;
 import com.project.teama_be.domain.post.exception.code.CommentErrorCode;
@@ -22,15 +22,16 @@ import com.project.teama_be.domain.post.exception.code.PostErrorCode;
 import com.project.teama_be.domain.post.repository.CommentReactionRepository;
 import com.project.teama_be.domain.post.repository.CommentRepository;
 import com.project.teama_be.domain.post.repository.PostRepository;
+import com.project.teama_be.domain.post.service.trending.TrendingEngine;
 import com.project.teama_be.global.security.userdetails.AuthUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -41,8 +42,10 @@ public class CommentCommandService {
     private final CommentReactionRepository commentReactionRepository;
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
-    private final NotRecommendedRepository notRecommendedRepository;
+    private final BlockQueryService blockQueryService;
+    private final TrendingEngine trendingEngine;
     private final NotiService notiService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 댓글 작성 ✅
     @Transactional
@@ -71,6 +74,11 @@ public class CommentCommandService {
         Comment comment = commentRepository.save(
                 CommentConverter.toComment(post, member, content)
         );
+        // 게시글 댓글 수 ++ (원자적 증가), 읽기 모델 반영
+        postRepository.addCommentCount(post.getId(), 1L);
+        eventPublisher.publishEvent(new PostFeedEvent.PostChanged(post.getId()));
+        // 인기 랭킹 반영
+        trendingEngine.recordComment(post.getId(), post.getLocation().getId());
 
         // 알람 기능: 주석처리
 //        try {   //member:로그인된 사용자, post에서 member:알림을 받는 사람
@@ -112,6 +120,10 @@ public class CommentCommandService {
         Comment result = commentRepository.save(
                 CommentConverter.toReply(post, member, content, commentId)
         );
+        // 댓글 대댓글 수 ++ (원자적 증가)
+        commentRepository.addReplyCount(commentId, 1L);
+        // 인기 랭킹 반영
+        trendingEngine.recordComment(post.getId(), post.getLocation().getId());
 
         // 알람 기능: 주석처리
 //        try {   //member:로그인된 사용자, post에서 member:알림을 받는 사람
@@ -129,56 +141,35 @@ public class CommentCommandService {
             Long commentId,
             AuthUser user
     ) {
-        // 유저 정보
-        Member member = getMember(user);
-
-        // 댓글 좋아요
+        // 댓글 정보
         Comment comment = commentRepository.findById(commentId).orElseThrow(()->
                 new CommentException(CommentErrorCode.NOT_FOUND));
 
         // 차단 여부 확인
         isBlocking(user, comment.getMember().getId());
 
-        // 좋아요 여부 조회
-        CommentReaction commentReaction= commentReactionRepository
-                .findByCommentId(commentId).orElse(null);
-
-        // 좋아요 누른 적이 없으면 좋아요 반영
-        if (commentReaction == null) {
-
-            log.info("[ 댓글 좋아요 ] commentID:{}, member:{}", comment.getId(), member.getLoginId());
-            // 댓글 좋아요 생성
-            commentReaction = commentReactionRepository.save(
-                    CommentConverter.toCommentReaction(
-                            comment, member, ReactionType.LIKE
-                    )
-            );
-        } else if (commentReaction.getReactionType().equals(ReactionType.LIKE)) {
+        // 좋아요 토글 : (댓글, 회원) 기준 upsert 한 번 (없으면 LIKE 생성, 있으면 LIKE <-> UNLIKE)
+        commentReactionRepository.toggleLike(commentId, user.getUserId());
+        ReactionType reactionType = commentReactionRepository
+                .findReactionType(commentId, user.getUserId())
+                .orElseThrow(() -> new CommentException(CommentErrorCode.NOT_FOUND));
 
-            commentReaction.updateReactionType(ReactionType.UNLIKE);
-            comment.updateLikeCount(comment.getLikeCount() - 1);
-        } else {
-
-            commentReaction.updateReactionType(ReactionType.LIKE);
-        }
+        // 댓글 좋아요 수 증감 (원자적 증감)
+        commentRepository.addLikeCount(commentId, reactionType.equals(ReactionType.LIKE) ? 1L : -1L);
+        log.info("[ 댓글 좋아요 ] commentID:{}, member:{}, reaction:{}", commentId, user.getLoginId(), reactionType);
 
         // 댓글 좋아요 알림: member: 로그인된 사용자, comment.getMember: 알림을 받는 사람
-        if (commentReaction.getReactionType().equals(ReactionType.LIKE)) {
-
-            // 댓글 좋아요 수 ++
-            comment.updateLikeCount(comment.getLikeCount() + 1);
-            // 알람 보낼 post
-            Post post = comment.getPost();
+        if (reactionType.equals(ReactionType.LIKE)) {
 
             // 알람 기능: 주석처리
 //            try {
-//                notiService.sendMessage(member, comment.getMember(), post, NotiType.COMMENT_LIKE);
+//                notiService.sendMessage(getMember(user), comment.getMember(), comment.getPost(), NotiType.COMMENT_LIKE);
 //            } catch (FirebaseMessagingException e) {
 //                throw new NotiException(NotiErrorCode.FCM_SEND_FAIL);
 //            }
         }
 
-        return CommentConverter.toCommentLike(commentReaction);
+        return CommentConverter.toCommentLike(commentId, reactionType, LocalDateTime.now());
     }
 
     // 댓글 수정
@@ -213,6 +204,13 @@ public class CommentCommandService {
         }
 
         commentRepository.deleteById(commentId);
+        // 댓글이면 게시글 댓글 수 --, 대댓글이면 부모 댓글의 대댓글 수 --
+        if (comment.getParentId() == 0L) {
+            postRepository.addCommentCount(comment.getPost().getId(), -1L);
+            eventPublisher.publishEvent(new PostFeedEvent.PostChanged(comment.getPost().getId()));
+        } else {
+            commentRepository.addReplyCount(comment.getParentId(), -1L);
+        }
         LocalDateTime now = LocalDateTime.now();
         return CommentConverter.toCommentDelete(comment, now);
     }
@@ -226,8 +224,7 @@ public class CommentCommandService {
 
     // 차단당한 유저인지 확인
     private void isBlocking(AuthUser targetUser, Long userId) {
-        List<Long> result = notRecommendedRepository.findBlockingUserList(userId);
-        if (result.contains(targetUser.getUserId())) {
+        if (blockQueryService.isBlockedBy(targetUser.getUserId(), userId)) {
             throw new CommentException(CommentErrorCode.BLOCKING);
         }
     }
@@ -0,0 +1,60 @@
+package com.project.teama_be.domain.post.service.command;
+
+import com.project.teama_be.domain.post.repository.CommentRepository;
+import com.project.teama_be.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.BiFunction;
+
+/** 댓글 수, 대댓글 수 보정 작업 :
+ * 작성, 삭제 시 증감하는 카운터가 실제 행 수와 어긋났을 때를 대비해
+ * 서버 시작 시와 매일 새벽에 ID 구간 단위로 실제 수와 다른 행만 다시 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+
+    // 한 트랜잭션에서 보정할 ID 구간 크기 (락 점유 시간 제한)
+    private static final long CHUNK_SIZE = 1000L;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        reconcile();
+    }
+
+    // 매일 새벽 4시
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reconcile() {
+        long postFixed = reconcileInChunks(
+                postRepository.findMaxId().orElse(0L),
+                postRepository::reconcileCommentCount
+        );
+        long commentFixed = reconcileInChunks(
+                commentRepository.findMaxId().orElse(0L),
+                commentRepository::reconcileReplyCount
+        );
+        log.info("[ 댓글 수 보정 ] postFixedCnt:{}, commentFixedCnt:{}", postFixed, commentFixed);
+    }
+
+    private long reconcileInChunks(long maxId, BiFunction<Long, Long, Long> reconcileRange) {
+        long fixed = 0L;
+        for (long fromId = 1L; fromId <= maxId; fromId += CHUNK_SIZE) {
+            long from = fromId;
+            long to = Math.min(fromId + CHUNK_SIZE - 1, maxId);
+            Long updated = transactionTemplate.execute(status -> reconcileRange.apply(from, to));
+            fixed += updated == null ? 0L : updated;
+        }
+        return fixed;
+    }
+}
@@ -1,38 +1,45 @@
 package com.project.teama_be.domain.post.service.command;
 
 import com.google.firebase.messaging.FirebaseMessagingException;
-import com.project.teama_be.domain.location.converter.LocationConverter;
 import com.project.teama_be.domain.location.entity.Location;
 import com.project.teama_be.domain.location.exception.LocationException;
 import com.project.teama_be.domain.location.exception.code.LocationErrorCode;
 import com.project.teama_be.domain.location.repository.LocationRepository;
+import com.project.teama_be.domain.location.service.LocationResolver;
 import com.project.teama_be.domain.member.entity.Member;
-import com.project.teama_be.domain.member.entity.RecentlyViewed;
 import com.project.teama_be.domain.member.repository.MemberRepository;
-import com.project.teama_be.domain.member.repository.RecentlyViewedRepository;
 import com.project.teama_be.domain.notification.enums.NotiType;
 import com.project.teama_be.domain.notification.exception.NotiException;
 import com.project.teama_be.domain.notification.exception.code.NotiErrorCode;
 import com.project.teama_be.domain.notification.service.NotiService;
 import com.project.teama_be.domain.post.converter.PostConverter;
-import com.project.teama_be.domain.post.converter.PostTagConverter;
-import com.project.teama_be.domain.post.converter.TagConverter;
 import com.project.teama_be.domain.post.dto.request.PostReqDTO;
 import com.project.teama_be.domain.post.dto.response.PostResDTO;
 import com.project.teama_be.domain.post.entity.Post;
 import com.project.teama_be.domain.post.entity.PostReaction;
-import com.project.teama_be.domain.post.entity.PostTag;
-import com.project.teama_be.domain.post.entity.Tag;
+import com.project.teama_be.domain.post.event.PostFeedEvent;
 import com.project.teama_be.domain.post.enums.ReactionType;
 import com.project.teama_be.domain.post.exception.PostException;
 import com.project.teama_be.domain.post.exception.code.PostErrorCode;
 import com.project.teama_be.domain.post.repository.*;
+import com.project.teama_be.domain.post.service.counter.PostLikeCounter;
+import com.project.teama_be.domain.post.service.query.HomeFeedCache;
+import com.project.teama_be.domain.post.service.recent.RecentlyViewedStore;
+import com.project.teama_be.domain.post.service.search.KeywordSuggestIndex;
+import com.project.teama_be.domain.post.service.search.PostSearchIndex;
+import com.project.teama_be.domain.post.service.tag.TagDictionary;
+import com.project.teama_be.domain.post.service.trending.TrendingEngine;
+import com.project.teama_be.global.aws.dto.S3ResDTO;
+import com.project.teama_be.global.aws.util.S3DeletionQueue;
+import com.project.teama_be.global.aws.util.S3PresignUtil;
 import com.project.teama_be.global.aws.util.S3Util;
 import com.project.teama_be.global.security.userdetails.AuthUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
@@ -40,8 +47,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -49,57 +54,115 @@ import java.util.stream.Collectors;
 public class PostCommandService {
 
     private final PostRepository postRepository;
-    private final TagRepository tagRepository;
-    private final PostTagRepository postTagRepository;
+    private final TagDictionary tagDictionary;
     private final PostReactionRepository postReactionRepository;
     private final PostImageRepository postImageRepository;
     private final MemberRepository memberRepository;
     private final LocationRepository locationRepository;
-    private final RecentlyViewedRepository recentlyViewedRepository;
+    private final LocationResolver locationResolver;
     private final S3Util s3Util;
+    private final S3PresignUtil s3PresignUtil;
+    private final S3DeletionQueue s3DeletionQueue;
     private final NotiService notiService;
+    private final PostSearchIndex postSearchIndex;
+    private final KeywordSuggestIndex keywordSuggestIndex;
+    private final PostLikeCounter postLikeCounter;
+    private final RecentlyViewedStore recentlyViewedStore;
+    private final TrendingEngine trendingEngine;
+    private final HomeFeedCache homeFeedCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     // 게시글 업로드 ✅
-    @Transactional
     public PostResDTO.PostUpload PostUpload(
             AuthUser user,
             List<MultipartFile> image,
             PostReqDTO.PostUpload postUpload
     ) {
 
-        // 유저 정보 생성
-        Member member = getMember(user);
+        // 사진 업로드 : DB 커넥션을 잡기 전에 동시 업로드 (원본 + 축소본)
+        List<S3Util.UploadedImage> images = s3Util.uploadImages(image, "post/");
+        log.info("[ 사진 업로드 ] imageCnt:{}", images.size());
 
-        // 위치 정보 생성 : 존재하는지 확인, 없으면 생성, 있으면 그걸로 (구현X)
-        Location location;
-        if (locationRepository.existsByPlaceName(postUpload.placeName())) {
-            location = locationRepository.findByPlaceName(postUpload.placeName());
-        } else {
-            // 의미있는 값인지 확인: 지번, 도로명, 장소명은 공백이면 안됨
-            if (postUpload.addressName().isBlank() || postUpload.placeName().isBlank()
-                    || postUpload.roadAddressName().isBlank()) {
-                throw new LocationException(LocationErrorCode.NOT_VALID);
+        return savePostOrDeleteImages(user, images, postUpload);
+    }
+
+    // 게시글 사진 업로드 URL 발급 (클라이언트가 S3 로 직접 업로드)
+    public List<S3ResDTO.PresignedUrl> issuePostImageUrls(
+            AuthUser user,
+            PostReqDTO.PresignedImages presignedImages
+    ) {
+        return presignedImages.images().stream()
+                .map(eachImage -> s3PresignUtil.issue(user.getUserId(), eachImage, "post/"))
+                .toList();
+    }
+
+    // 게시글 업로드 (직접 업로드한 사진) ✅
+    public PostResDTO.PostUpload PostUploadPresigned(
+            AuthUser user,
+            PostReqDTO.PresignedPostUpload postUpload
+    ) {
+
+        // 업로드 확인 (HEAD) : 축소본은 백필 작업이 생성하므로 null
+        List<S3Util.UploadedImage> images = new ArrayList<>();
+        try {
+            for (String key : postUpload.imageKeys()) {
+                images.add(new S3Util.UploadedImage(s3PresignUtil.claim(user.getUserId(), key), null, null));
             }
-            location = LocationConverter.toLocation(postUpload);
+        } catch (RuntimeException e) {
+            // 이미 확인한 키는 다시 쓸 수 없으므로 정리
+            deleteImages(images, e);
+            throw e;
+        }
+        log.info("[ 사진 업로드 확인 ] imageCnt:{}", images.size());
+
+        return savePostOrDeleteImages(user, images, postUpload.postContent());
+    }
 
-            log.info("[ 위치 정보 생성 ] locationID:{}", location.getId());
-            locationRepository.save(location);
+    // 게시글, 태그, 사진 저장은 하나의 짧은 트랜잭션으로, 실패 시 올라간 사진 삭제
+    private PostResDTO.PostUpload savePostOrDeleteImages(
+            AuthUser user,
+            List<S3Util.UploadedImage> images,
+            PostReqDTO.PostUpload postUpload
+    ) {
+        try {
+            return transactionTemplate.execute(status -> savePost(user, images, postUpload));
+        } catch (RuntimeException e) {
+            log.warn("[ 게시글 업로드 ] 저장 실패, 업로드된 사진 삭제 : imageCnt:{}", images.size());
+            deleteImages(images, e);
+            throw e;
         }
-        log.info("[ 위치 정보 생성 ] locationID:{}",location.getId());
-
-        // 태그 생성 : 기존 태그 불러오기 + 없는 태그 저장하기
-        List<Tag> foundTags = tagRepository.findByTagNameIn(postUpload.tags());
-        Map<String, Tag> tagMap = foundTags.stream()
-                .collect(Collectors.toMap(Tag::getTagName, Function.identity()));
-
-        List<Tag> tags = new ArrayList<>();
-        for (String tagName : postUpload.tags()) {
-            Tag tag = tagMap.get(tagName);
-            if (tag == null) {
-                tag = tagRepository.save(TagConverter.toTag(tagName));
-            }
-            tags.add(tag);
+    }
+
+    // 실패 시 올라간 사진 삭제 : 삭제 대기열에 넣고, 대기열 저장도 실패하면(DB 장애 등) S3 에서 바로 삭제
+    private void deleteImages(List<S3Util.UploadedImage> images, RuntimeException cause) {
+        List<String> urls = images.stream().map(S3Util.UploadedImage::originalUrl).toList();
+        try {
+            s3DeletionQueue.enqueue(urls);
+        } catch (RuntimeException e) {
+            log.warn("[ S3 삭제 예약 실패 ] 바로 삭제 : urlCnt:{}", urls.size());
+            cause.addSuppressed(e);
+            s3Util.deleteFiles(urls);
         }
+    }
+
+    // 게시글 저장 (트랜잭션 내부)
+    private PostResDTO.PostUpload savePost(
+            AuthUser user,
+            List<S3Util.UploadedImage> images,
+            PostReqDTO.PostUpload postUpload
+    ) {
+
+        // 유저 정보 생성
+        Member member = getMember(user);
+
+        // 위치 정보 확인 : 캐시 -> DB, 없으면 생성
+        LocationResolver.ResolvedLocation resolved = locationResolver.resolve(postUpload);
+        Location location = locationRepository.getReferenceById(resolved.id());
+        log.info("[ 위치 정보 확인 ] locationID:{}", resolved.id());
+
+        // 태그 확인 : 태그 사전, 없는 태그는 한 번에 생성
+        Map<String, Long> tags = tagDictionary.resolve(postUpload.tags());
         log.info("[ 태그 생성 ] tagCnt:{}", tags.size());
 
         // 게시글 생성
@@ -108,22 +171,32 @@ public class PostCommandService {
         postRepository.save(post);
 
         // 태그 <-> 게시글 연동
-        for (Tag tag : tags) {
-            PostTag postTag = PostTag.builder()
-                    .post(post)
-                    .tag(tag)
-                    .build();
-            postTag = postTagRepository.save(postTag);
-            log.info("[ 태그 <-> 게시글 연동 저장 ] postTagID:{}", postTag.getId());
-        }
+        tagDictionary.link(post.getId(), tags.values());
 
-        // 사진 업로드, 게시글 <-> 이미지 연동
-        List<String> url = s3Util.uploadFile(image, "post/");
-        for (String s : url) {
-            log.info("[ 사진 업로드 ] s3Url:{}", s);
-            postImageRepository.save(PostConverter.toPostImage(post, s));
+        // 게시글 <-> 이미지 연동
+        for (S3Util.UploadedImage eachImage : images) {
+            log.info("[ 사진 저장 ] s3Url:{}", eachImage.originalUrl());
+            postImageRepository.save(PostConverter.toPostImage(post, eachImage));
         }
 
+        // 검색 인덱스, 자동완성 반영
+        List<String> tagNames = List.copyOf(tags.keySet());
+        postSearchIndex.index(PostConverter.toSearchDocument(
+                post.getId(),
+                post.getContent(),
+                resolved.placeName(),
+                resolved.addressName(),
+                resolved.roadAddressName(),
+                tagNames
+        ));
+        keywordSuggestIndex.add(KeywordSuggestIndex.Type.TAG, tagNames, 1);
+        keywordSuggestIndex.add(KeywordSuggestIndex.Type.PLACE, resolved.placeName(), 1);
+        // 홈 화면 캐시 무효화
+        homeFeedCache.evict(resolved.placeName());
+
+        // 읽기 모델 반영
+        eventPublisher.publishEvent(new PostFeedEvent.PostChanged(post.getId()));
+
         log.info("[ 게시글 업로드 ] postID:{}", post.getId());
         return PostConverter.toPostUpload(post);
     }
@@ -153,7 +226,8 @@ public class PostCommandService {
         } else if (reaction.getReactionType().equals(ReactionType.LIKE)) {
 
             reaction.updateReactionType(ReactionType.UNLIKE);
-            post.updateLikeCount(post.getLikeCount() - 1);
+            // 게시글 좋아요 수 -- (행 잠금 없이 누적, 주기적으로 반영)
+            postLikeCounter.add(postId, -1L);
         } else {
 
             reaction.updateReactionType(ReactionType.LIKE);
@@ -162,7 +236,10 @@ public class PostCommandService {
         // 좋아요만 알람: member: 로그인된 사용자, post.getMember(): 알림을 받는 사람
         if (reaction.getReactionType().equals(ReactionType.LIKE)) {
 
-            post.updateLikeCount(post.getLikeCount() + 1);
+            // 게시글 좋아요 수 ++ (행 잠금 없이 누적, 주기적으로 반영)
+            postLikeCounter.add(postId, 1L);
+            // 인기 랭킹 반영
+            trendingEngine.recordLike(postId, post.getLocation().getId());
 
             // 알람 기능: 주석처리
 //            try {
@@ -177,29 +254,19 @@ public class PostCommandService {
         return PostConverter.toPostLike(reaction);
     }
 
-    // 최근 본 게시글 추가
-    @Transactional
+    // 최근 본 게시글 추가 : Redis 에만 기록, 테이블은 주기적으로 모아서 반영
     public void addRecentPost(
             Long postId,
             AuthUser user
     ) {
-        Member member = getMember(user);
-
-        // 게시글 정보 생성
-        Post post = getPost(postId);
-
-        // 이미 본적이 있는 경우: 시청 시각 업데이트
-        if (recentlyViewedRepository.existsByMemberIdAndPostId(member.getId(), postId)) {
-            RecentlyViewed recentlyViewed = recentlyViewedRepository.findByMemberIdAndPostId(member.getId(), postId);
-            recentlyViewed.updateViewedAt(LocalDateTime.now());
-            log.info("[ 최근 본 게시글 업데이트 ] recentlyViewedID:{}", recentlyViewed.getId());
-            return;
-        }
+        // 게시글 존재 여부 확인
+        Long locationId = postRepository.findLocationIdById(postId).orElseThrow(() ->
+                new PostException(PostErrorCode.NOT_FOUND));
 
-        log.info("[ 최근 본 게시글 추가 ] memberID:{}, postID:{}", member.getId(), post.getId());
-        // 최근 본 게시글 저장
-        RecentlyViewed recentlyViewed = PostConverter.toRecentlyViewed(post, member);
-        recentlyViewedRepository.save(recentlyViewed);
+        log.info("[ 최근 본 게시글 추가 ] memberID:{}, postID:{}", user.getUserId(), postId);
+        recentlyViewedStore.add(user.getUserId(), postId, LocalDateTime.now());
+        // 인기 랭킹 반영 (순 방문자만)
+        trendingEngine.recordView(postId, locationId, user.getUserId());
     }
 
     // 게시글 수정
@@ -227,26 +294,23 @@ public class PostCommandService {
 
         // 태그 변경: 태그 이름이 공백이면 제거
         dto.tags().removeIf(String::isBlank);
+        List<String> tagNames = post.getPostTags().stream()
+                .map(postTag -> postTag.getTag().getTagName())
+                .toList();
         if (!dto.tags().isEmpty()){
 
             isChange = true;
             // 기존 태그 관계 삭제
             post.getPostTags().clear();
 
-            // 태그 생성: 없는 태그 저장하기
-            List<Tag> tagList = new ArrayList<>();
-            for (String tagName : dto.tags()) {
-                Tag tag = tagRepository.findByTagName(tagName).orElseGet(
-                        () -> tagRepository.save(TagConverter.toTag(tagName))
-                );
-                tagList.add(tag);
-            }
+            // 태그 확인 + 새로운 태그 관계 생성
+            Map<String, Long> tags = tagDictionary.resolve(dto.tags());
+            tagDictionary.link(post.getId(), tags.values());
 
-            // 새로운 태그 관계 생성
-            List<PostTag> postTagList = tagList.stream()
-                            .map(tag -> PostTagConverter.toPostTag(tag, post))
-                            .toList();
-            postTagRepository.saveAll(postTagList);
+            // 자동완성 사용 횟수 이동
+            keywordSuggestIndex.add(KeywordSuggestIndex.Type.TAG, tagNames, -1);
+            tagNames = List.copyOf(tags.keySet());
+            keywordSuggestIndex.add(KeywordSuggestIndex.Type.TAG, tagNames, 1);
         }
 
         // 지역 변경
@@ -256,12 +320,22 @@ public class PostCommandService {
             // 지역 조회: 없으면 에러
             Location location = locationRepository.findById(dto.placeId()).orElseThrow(()->
                     new LocationException(LocationErrorCode.NOT_FOUND));
+
+            // 자동완성 사용 횟수 이동
+            keywordSuggestIndex.add(KeywordSuggestIndex.Type.PLACE, post.getLocation().getPlaceName(), -1);
+            keywordSuggestIndex.add(KeywordSuggestIndex.Type.PLACE, location.getPlaceName(), 1);
+            // 홈 화면 캐시 무효화 (이전 가게, 새 가게)
+            homeFeedCache.evict(post.getLocation().getPlaceName(), location.getPlaceName());
             post.updateLocation(location);
         }
 
         if (!isChange) {
             return Optional.empty();
         }
+
+        // 검색 인덱스, 읽기 모델 반영
+        postSearchIndex.index(PostConverter.toSearchDocument(post, tagNames));
+        eventPublisher.publishEvent(new PostFeedEvent.PostChanged(post.getId()));
         return Optional.of(PostConverter.toPostUpdate(post));
     }
 
@@ -278,7 +352,18 @@ public class PostCommandService {
         }
 
         log.info("[ 게시글 삭제 ] postID:{}", postId);
+        List<String> tagNames = post.getPostTags().stream()
+                .map(postTag -> postTag.getTag().getTagName())
+                .toList();
+        keywordSuggestIndex.add(KeywordSuggestIndex.Type.TAG, tagNames, -1);
+        keywordSuggestIndex.add(KeywordSuggestIndex.Type.PLACE, post.getLocation().getPlaceName(), -1);
+        // 홈 화면 캐시 무효화
+        homeFeedCache.evict(post.getLocation().getPlaceName());
+
         postRepository.deleteById(postId);
+        eventPublisher.publishEvent(new PostFeedEvent.PostDeleted(postId));
+        postSearchIndex.remove(postId);
+        trendingEngine.remove(postId);
         LocalDateTime now = LocalDateTime.now();
         return PostConverter.toPostDelete(post, now);
     }
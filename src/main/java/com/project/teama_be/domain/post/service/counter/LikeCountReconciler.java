@@ -0,0 +1,99 @@
+package com.project.teama_be.domain.post.service.counter;
+
+import com.project.teama_be.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** 게시글 좋아요 수 보정 작업 :
+ * PostLikeCounter 는 증감을 메모리에 모았다가 반영하므로, 반영 전에 서버가 죽으면 그만큼 어긋납니다.
+ * 서버 시작 시와 매일 새벽에 ID 구간 단위로 실제 좋아요 행 수와 비교해 다른 행만 다시 맞춥니다.
+ * 이 서버에서 아직 반영되지 않은 증감(반영 중 포함)은 반영되면 더해지므로 실제 수에서 빼고 맞추며,
+ * 보정하는 동안 증감이 바뀐 게시글은 건너뜁니다. (다음 보정에서 맞춤)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountReconciler {
+
+    // 한 트랜잭션에서 보정할 ID 구간 크기 (락 점유 시간 제한)
+    private static final long CHUNK_SIZE = 1000L;
+    // 구간 게시글 잠금 : 보정 중에는 누적기 반영(UPDATE)이 기다리므로 반영 중 증감이 그대로 유지됨
+    private static final String LOCK_SQL =
+            "SELECT id, COALESCE(like_count, 0) FROM post WHERE id BETWEEN ? AND ? FOR UPDATE";
+    private static final String ACTUAL_COUNT_SQL = """
+            SELECT post_id, COUNT(*) FROM post_reaction
+            WHERE post_id BETWEEN ? AND ? AND reaction_type = 'LIKE' AND deleted_at IS NULL
+            GROUP BY post_id
+            """;
+    private static final String UPDATE_SQL = "UPDATE post SET like_count = ? WHERE id = ?";
+    private static final String UPDATE_FEED_SQL = "UPDATE post_feed SET like_count = ? WHERE post_id = ?";
+
+    private final PostRepository postRepository;
+    private final PostLikeCounter postLikeCounter;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        reconcile();
+    }
+
+    // 매일 새벽 4시 30분 (댓글 수 보정과 겹치지 않도록)
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcile() {
+        long maxId = postRepository.findMaxId().orElse(0L);
+        long fixed = 0L;
+        for (long fromId = 1L; fromId <= maxId; fromId += CHUNK_SIZE) {
+            long from = fromId;
+            long to = Math.min(fromId + CHUNK_SIZE - 1, maxId);
+            Integer updated = transactionTemplate.execute(status -> reconcileRange(from, to));
+            fixed += updated == null ? 0L : updated;
+        }
+        log.info("[ 좋아요 수 보정 ] postFixedCnt:{}", fixed);
+    }
+
+    private int reconcileRange(long fromId, long toId) {
+        Map<Long, Long> stored = new HashMap<>();
+        jdbcTemplate.query(LOCK_SQL, (rs, rowNum) -> stored.put(rs.getLong(1), rs.getLong(2)), fromId, toId);
+        if (stored.isEmpty()) {
+            return 0;
+        }
+
+        // 실제 수를 읽는 동안 증감이 바뀌면 어느 쪽에 포함됐는지 알 수 없으므로 앞뒤로 읽어 비교
+        Map<Long, Long> pendingBefore = new HashMap<>();
+        stored.keySet().forEach(postId -> pendingBefore.put(postId, postLikeCounter.getPending(postId)));
+        Map<Long, Long> actual = new HashMap<>();
+        jdbcTemplate.query(ACTUAL_COUNT_SQL, (rs, rowNum) -> actual.put(rs.getLong(1), rs.getLong(2)), fromId, toId);
+
+        List<Object[]> batch = new ArrayList<>();
+        stored.forEach((postId, likeCount) -> {
+            long pending = postLikeCounter.getPending(postId);
+            if (pending != pendingBefore.get(postId)) {
+                return;
+            }
+            long expected = actual.getOrDefault(postId, 0L) - pending;
+            if (expected != likeCount) {
+                batch.add(new Object[]{expected, postId});
+            }
+        });
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // 원본, 읽기 모델(post_feed) 함께 보정
+        jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+        jdbcTemplate.batchUpdate(UPDATE_FEED_SQL, batch);
+        return batch.size();
+    }
+}
@@ -0,0 +1,107 @@
+package com.project.teama_be.domain.post.service.counter;
+
+import com.project.teama_be.global.utils.TransactionUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 게시글 좋아요 수 누적기 (write-behind) :
+ * 좋아요, 좋아요 취소 시 게시글 행을 잠그지 않고 메모리에서 원자적으로 증감만 누적합니다.
+ * 누적된 증감은 주기적으로 배치 UPDATE 로 post.like_count, post_feed.like_count 에 반영됩니다.
+ * 반영 전 증감은 조회 시 getPending 으로 합산합니다.
+ * 반영 중(떼어낸 뒤 커밋 전)인 증감도 getPending 에 포함하므로 떼어낸 뒤 커밋 전까지 조회해도 적게 세지 않습니다.
+ * 다만 DB 값과 getPending 을 따로 읽으므로, 반영 커밋과 조회가 겹치는 아주 짧은 순간에는
+ * 같은 증감이 두 번 합산되거나 빠질 수 있습니다. (다음 조회부터 정확)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeCounter {
+
+    // DB 반영 주기
+    private static final long FLUSH_INTERVAL_MS = 5_000L;
+    private static final String FLUSH_SQL =
+            "UPDATE post SET like_count = COALESCE(like_count, 0) + ? WHERE id = ?";
+    private static final String FLUSH_FEED_SQL =
+            "UPDATE post_feed SET like_count = like_count + ? WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 게시글 ID -> 아직 DB에 반영되지 않은 증감
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    // 게시글 ID -> DB 반영 중인 증감 (떼어낸 뒤 커밋 전)
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    // 좋아요 수 증감 (커밋 이후 누적)
+    public void add(Long postId, long delta) {
+        TransactionUtil.afterCommit(() -> pending.merge(postId, delta, Long::sum));
+    }
+
+    // 아직 DB에 반영되지 않은 증감 (반영 중인 증감 포함)
+    public long getPending(Long postId) {
+        // 떼어내기는 pending -> inFlight 순으로 옮기므로 pending 을 먼저 읽어야 빠지지 않음
+        long notFlushed = pending.getOrDefault(postId, 0L);
+        return notFlushed + inFlight.getOrDefault(postId, 0L);
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 게시글별 증감을 원자적으로 떼어냄 (이후 증감은 새 항목으로 누적)
+        // 조회에서 빠지지 않도록 같은 원자 연산 안에서 반영 중 목록에 올린 뒤 떼어냄
+        List<Object[]> batch = new ArrayList<>();
+        for (Long postId : pending.keySet()) {
+            pending.computeIfPresent(postId, (id, delta) -> {
+                if (delta != 0L) {
+                    inFlight.merge(id, delta, Long::sum);
+                    batch.add(new Object[]{delta, id});
+                }
+                return null;
+            });
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 원본, 읽기 모델(post_feed) 함께 반영
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+                jdbcTemplate.batchUpdate(FLUSH_FEED_SQL, batch);
+            });
+            batch.forEach(row -> release((Long) row[1], (Long) row[0]));
+            log.info("[ 게시글 좋아요 수 반영 ] postCnt:{}", batch.size());
+        } catch (RuntimeException e) {
+            // 반영 실패 시 떼어낸 증감을 되돌려 다음 주기에 재시도 (되돌린 뒤 반영 중 목록에서 제거)
+            batch.forEach(row -> {
+                pending.merge((Long) row[1], (Long) row[0], Long::sum);
+                release((Long) row[1], (Long) row[0]);
+            });
+            log.error("[ 게시글 좋아요 수 반영 실패 ] postCnt:{}", batch.size(), e);
+        }
+    }
+
+    // 반영 중 목록에서 증감 제거
+    private void release(Long postId, long delta) {
+        inFlight.computeIfPresent(postId, (id, value) -> value - delta == 0L ? null : value - delta);
+    }
+
+    // 서버 종료 시 남은 증감 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
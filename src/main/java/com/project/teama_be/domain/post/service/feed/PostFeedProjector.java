@@ -0,0 +1,44 @@
+package com.project.teama_be.domain.post.service.feed;
+
+import com.project.teama_be.domain.post.event.PostFeedEvent;
+import com.project.teama_be.domain.post.repository.PostFeedRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/** 게시글 읽기 모델(post_feed) 갱신 :
+ * 쓰기 트랜잭션의 커밋 직전에 같은 트랜잭션 안에서 반영하므로 원본과 읽기 모델이 함께 커밋되거나 함께 롤백됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostFeedProjector {
+
+    private final PostFeedRepository postFeedRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(PostFeedEvent.PostChanged event) {
+        postFeedRepository.refresh(event.postId(), event.postId());
+        log.info("[ 게시글 읽기 모델 갱신 ] postID:{}", event.postId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(PostFeedEvent.PostDeleted event) {
+        postFeedRepository.deleteByPostId(event.postId());
+        log.info("[ 게시글 읽기 모델 삭제 ] postID:{}", event.postId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(PostFeedEvent.MemberChanged event) {
+        int updated = postFeedRepository.refreshMember(event.memberId());
+        log.info("[ 게시글 읽기 모델 회원 정보 갱신 ] memberID:{}, postCnt:{}", event.memberId(), updated);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(PostFeedEvent.MemberDeleted event) {
+        int deleted = postFeedRepository.deleteByMemberId(event.memberId());
+        log.info("[ 게시글 읽기 모델 회원 삭제 ] memberID:{}, postCnt:{}", event.memberId(), deleted);
+    }
+}
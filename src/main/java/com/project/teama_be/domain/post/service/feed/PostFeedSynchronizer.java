@@ -0,0 +1,72 @@
+package com.project.teama_be.domain.post.service.feed;
+
+import com.project.teama_be.domain.post.repository.PostFeedRepository;
+import com.project.teama_be.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** 게시글 읽기 모델(post_feed) 백필, 정합성 검사 :
+ * 읽기 모델이 비어 있으면 서버 시작 시 전체를 채우고,
+ * 매일 새벽 ID 구간별로 원본과 비교해 어긋난 구간만 다시 계산합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostFeedSynchronizer {
+
+    // 한 트랜잭션에서 처리할 ID 구간 크기
+    private static final long CHUNK_SIZE = 1000L;
+
+    private final PostRepository postRepository;
+    private final PostFeedRepository postFeedRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 서버 시작 시 읽기 모델이 비어 있으면 백필
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (postFeedRepository.count() == 0) {
+            backfill();
+        }
+    }
+
+    // 전체 백필
+    public void backfill() {
+        long maxId = postRepository.findMaxId().orElse(0L);
+        long refreshed = 0L;
+        for (long fromId = 1L; fromId <= maxId; fromId += CHUNK_SIZE) {
+            refreshed += refreshRange(fromId, Math.min(fromId + CHUNK_SIZE - 1, maxId));
+        }
+        log.info("[ 게시글 읽기 모델 백필 ] maxPostID:{}, refreshedCnt:{}", maxId, refreshed);
+    }
+
+    // 정합성 검사 : 매일 새벽 4시 30분
+    @Scheduled(cron = "0 30 4 * * *")
+    public void verify() {
+        long maxId = postRepository.findMaxId().orElse(0L);
+        long mismatched = 0L;
+        long repairedChunks = 0L;
+        for (long fromId = 1L; fromId <= maxId; fromId += CHUNK_SIZE) {
+            long toId = Math.min(fromId + CHUNK_SIZE - 1, maxId);
+            long count = postFeedRepository.countMismatches(fromId, toId);
+            if (count > 0) {
+                mismatched += count;
+                repairedChunks++;
+                refreshRange(fromId, toId);
+            }
+        }
+        log.info("[ 게시글 읽기 모델 정합성 검사 ] mismatchedCnt:{}, repairedChunkCnt:{}", mismatched, repairedChunks);
+    }
+
+    private long refreshRange(long fromId, long toId) {
+        Integer refreshed = transactionTemplate.execute(status -> {
+            postFeedRepository.deleteStale(fromId, toId);
+            return postFeedRepository.refresh(fromId, toId);
+        });
+        return refreshed == null ? 0L : refreshed;
+    }
+}
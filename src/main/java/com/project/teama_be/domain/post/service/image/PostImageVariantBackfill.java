@@ -0,0 +1,76 @@
+package com.project.teama_be.domain.post.service.image;
+
+import com.project.teama_be.domain.post.entity.PostImage;
+import com.project.teama_be.domain.post.event.PostFeedEvent;
+import com.project.teama_be.domain.post.repository.PostImageRepository;
+import com.project.teama_be.global.aws.util.S3Util;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** 기존 게시글 사진 축소본 백필 :
+ * 축소본 없이 저장된 사진(thumbnail_url IS NULL)을 조금씩 내려받아 축소본을 만들고,
+ * URL 을 반영한 뒤 읽기 모델을 갱신합니다. 모두 처리되면 조회 한 번으로 끝납니다.
+ * 직접 업로드(presigned)한 게시글 사진도 여기서 원본의 메타데이터(EXIF, GPS 등)가 제거됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostImageVariantBackfill {
+
+    // 한 번 실행에 처리할 최대 사진 수 (S3 트래픽, CPU 부담 제한)
+    private static final int MAX_PER_RUN = 1000;
+
+    private final PostImageRepository postImageRepository;
+    private final S3Util s3Util;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 서버 시작 1분 후부터 10분 간격
+    @Scheduled(initialDelay = 60_000, fixedDelay = 600_000)
+    public void backfill() {
+        long lastId = 0L;
+        int processed = 0;
+        while (processed < MAX_PER_RUN) {
+            List<PostImage> images = postImageRepository.findTop100ByIdGreaterThanAndThumbnailUrlIsNullOrderByIdAsc(lastId);
+            if (images.isEmpty()) {
+                break;
+            }
+
+            // 축소본 생성 (트랜잭션 밖, 변환 불가 사진은 원본 URL 로 채워 다시 시도하지 않음)
+            Map<PostImage, S3Util.UploadedImage> results = new LinkedHashMap<>();
+            for (PostImage image : images) {
+                try {
+                    results.put(image, s3Util.createVariants(image.getImageUrl()));
+                } catch (RuntimeException e) {
+                    // 일시적인 오류는 건너뛰고 다음 실행에서 다시 시도
+                    log.warn("[ 사진 축소본 백필 ] 생성 실패 imageID:{}, message:{}", image.getId(), e.getMessage());
+                }
+            }
+
+            // URL 반영 + 읽기 모델 갱신
+            transactionTemplate.executeWithoutResult(status -> {
+                results.forEach((image, uploaded) ->
+                        postImageRepository.updateVariantUrls(image.getId(), uploaded.thumbnailUrl(), uploaded.mediumUrl()));
+                results.keySet().stream()
+                        .map(image -> image.getPost().getId())
+                        .distinct()
+                        .forEach(postId -> eventPublisher.publishEvent(new PostFeedEvent.PostChanged(postId)));
+            });
+
+            lastId = images.get(images.size() - 1).getId();
+            processed += images.size();
+        }
+
+        if (processed > 0) {
+            log.info("[ 사진 축소본 백필 ] processedCnt:{}, lastImageID:{}", processed, lastId);
+        }
+    }
+}
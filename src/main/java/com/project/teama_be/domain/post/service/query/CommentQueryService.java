@@ -1,7 +1,6 @@
 package com.project.teama_be.domain.post.service.query;
 
-import com.project.teama_be.domain.member.entity.QNotRecommended;
-import com.project.teama_be.domain.member.repository.NotRecommendedRepository;
+import com.project.teama_be.domain.member.service.query.BlockQueryService;
 import com.project.teama_be.domain.post.dto.response.CommentResDTO;
 import com.project.teama_be.domain.post.entity.Comment;
 import com.project.teama_be.domain.post.entity.Post;
@@ -14,7 +13,7 @@ import com.project.teama_be.domain.post.repository.CommentRepository;
 import com.project.teama_be.domain.post.repository.PostRepository;
 import com.project.teama_be.global.security.userdetails.AuthUser;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.NumberPath;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,7 +26,7 @@ import java.util.List;
 public class CommentQueryService {
 
     private final CommentRepository commentRepository;
-    private final NotRecommendedRepository notRecommendedRepository;
+    private final BlockQueryService blockQueryService;
     private final PostRepository postRepository;
 
     // 댓글 목록 조회 ✅
@@ -39,7 +38,6 @@ public class CommentQueryService {
     ) {
         // 조회할 객체 선언
         QComment comment = QComment.comment;
-        QNotRecommended notRecommended = QNotRecommended.notRecommended;
 
         // 게시글 주인이 날 차단했는지 확인: 게시글 주인과 차단한 상대가 다른 경우
         Post origin = postRepository.findPostById(postId).orElseThrow(()->
@@ -49,20 +47,9 @@ public class CommentQueryService {
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(comment.post.id.eq(postId))
                 // 대댓글 조회 방지
-                .and(comment.parentId.eq(0L))
-                // 내가 차단한 사용자의 댓글 제외
-                .and(comment.member.id.notIn(
-                        JPAExpressions.select(notRecommended.targetMemberId)
-                                .from(notRecommended)
-                                .where(notRecommended.member.id.in(user.getUserId()))
-                ))
-                // 상대방이 차단한 경우, 상대방 댓글 제외
-                .and(comment.member.id.notIn(
-                        JPAExpressions.select(notRecommended.member.id)
-                                .from(notRecommended)
-                                .where(notRecommended.targetMemberId.in(user.getUserId()))
-                ))
-        ;
+                .and(comment.parentId.eq(0L));
+        // 차단 관계(양방향)인 사용자의 댓글 제외
+        excludeBlockedMember(builder, comment.member.id, user);
 
         if (!cursor.equals("-1")) {
             try {
@@ -85,7 +72,6 @@ public class CommentQueryService {
 
         // 조회할 객체 선언
         QComment comment = QComment.comment;
-        QNotRecommended notRecommended = QNotRecommended.notRecommended;
 
         // 댓글 주인이 날 차단했는지 확인
         Comment origin = commentRepository.findById(commentId).orElseThrow(() ->
@@ -93,19 +79,9 @@ public class CommentQueryService {
         isBlockedUser(user.getUserId(), origin.getMember().getId());
 
         BooleanBuilder builder = new BooleanBuilder();
-        builder.and(comment.parentId.eq(commentId))
-                // 차단한 사용자의 댓글 제외
-                .and(comment.member.id.notIn(
-                JPAExpressions.select(notRecommended.targetMemberId)
-                        .from(notRecommended)
-                        .where(notRecommended.member.id.in(user.getUserId()))
-                ))
-                // 상대방이 차단한 경우, 상대방 댓글 제외
-                .and(comment.member.id.notIn(
-                        JPAExpressions.select(notRecommended.member.id)
-                                .from(notRecommended)
-                                .where(notRecommended.targetMemberId.in(user.getUserId()))
-                ));
+        builder.and(comment.parentId.eq(commentId));
+        // 차단 관계(양방향)인 사용자의 댓글 제외
+        excludeBlockedMember(builder, comment.member.id, user);
 
         if (!cursor.equals("-1")) {
             try{
@@ -148,9 +124,20 @@ public class CommentQueryService {
 
     // 사용자가 날 차단했는지 확인
     private void isBlockedUser(Long userId, Long targetUserId) {
-        List<Long> blackList = notRecommendedRepository.findBlockingUserList(targetUserId);
-        if (blackList.contains(userId)) {
+        if (blockQueryService.isBlockedBy(userId, targetUserId)) {
             throw new CommentException(CommentErrorCode.BLOCKING);
         }
     }
+
+    // 차단 관계(내가 차단, 날 차단)인 사용자 제외
+    private void excludeBlockedMember(
+            BooleanBuilder builder,
+            NumberPath<Long> memberId,
+            AuthUser user
+    ) {
+        List<Long> hiddenMemberIds = blockQueryService.getHiddenMemberIds(user.getUserId());
+        if (!hiddenMemberIds.isEmpty()) {
+            builder.and(memberId.notIn(hiddenMemberIds));
+        }
+    }
 }
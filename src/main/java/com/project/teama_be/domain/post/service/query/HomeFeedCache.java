@@ -0,0 +1,165 @@
+package com.project.teama_be.domain.post.service.query;
+
+import com.project.teama_be.domain.post.converter.PostConverter;
+import com.project.teama_be.domain.post.dto.response.PostResDTO;
+import com.project.teama_be.global.utils.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/** 홈 화면(각 가게 최신 게시글) 응답 캐시 :
+ * (정렬, 중복 제거한 가게명 목록, 정렬한 차단 회원 ID 목록) 을 키로 짧게 보관하고, 응답은 요청한 가게명 순서로 재배열합니다.
+ * 같은 키의 동시 미스는 하나의 조회로 합치고(single-flight), 게시글 업로드, 수정, 삭제 시 해당 가게가 포함된 항목을 무효화합니다.
+ * 캐시와 무효화는 서버(노드)별로 동작하므로, 다른 서버에서 일어난 변경은 최대 TTL_MS 동안 반영되지 않을 수 있습니다.
+ */
+@Slf4j
+@Component
+public class HomeFeedCache {
+
+    private static final long TTL_MS = 10_000L;
+    private static final int MAX_SIZE = 10_000;
+
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+    private final Map<Key, CompletableFuture<PostResDTO.HomePost>> loading = new ConcurrentHashMap<>();
+    // 무효화 시 증가 : 무효화 이전에 시작한 조회 결과는 저장하지 않음
+    private final AtomicLong version = new AtomicLong();
+
+    // 지표
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /** 캐시 조회, 없으면 loader 로 조회 후 저장
+     *
+     * @param placeNames 조회할 가게명 목록
+     * @param hiddenMemberIds 조회하는 회원과 차단 관계인 회원 ID
+     * @param loader DB 조회 (정렬, 중복 제거한 가게명 목록)
+     * @return 홈 화면 게시글 (요청한 가게명 순서)
+     */
+    public PostResDTO.HomePost get(
+            List<String> placeNames,
+            List<Long> hiddenMemberIds,
+            Function<List<String>, PostResDTO.HomePost> loader
+    ) {
+        Key key = Key.of(placeNames, hiddenMemberIds);
+
+        Entry entry = cache.get(key);
+        if (entry != null && entry.expiresAt() > System.currentTimeMillis()) {
+            hitCount.increment();
+            return reorder(entry.value(), placeNames);
+        }
+
+        // 같은 키를 이미 조회 중이면 그 결과를 기다림
+        CompletableFuture<PostResDTO.HomePost> mine = new CompletableFuture<>();
+        CompletableFuture<PostResDTO.HomePost> inFlight = loading.putIfAbsent(key, mine);
+        if (inFlight != null) {
+            coalescedCount.increment();
+            return reorder(join(inFlight), placeNames);
+        }
+
+        missCount.increment();
+        try {
+            long startVersion = version.get();
+            PostResDTO.HomePost value = loader.apply(key.placeNames());
+            if (version.get() == startVersion) {
+                if (cache.size() >= MAX_SIZE) {
+                    cache.clear();
+                }
+                cache.put(key, new Entry(value, System.currentTimeMillis() + TTL_MS));
+            }
+            mine.complete(value);
+            return reorder(value, placeNames);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    // 가게 게시글 변경 시 해당 가게가 포함된 항목 무효화 (커밋 이후)
+    public void evict(String... placeNames) {
+        Set<String> targets = new HashSet<>();
+        for (String placeName : placeNames) {
+            if (placeName != null) {
+                targets.add(placeName);
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+        TransactionUtil.afterCommit(() -> {
+            version.incrementAndGet();
+            cache.keySet().removeIf(key -> key.placeNames().stream().anyMatch(targets::contains));
+        });
+    }
+
+    // 적중률 지표 (1분마다 기록)
+    @Scheduled(fixedRate = 60_000L)
+    public void logStats() {
+        long hit = hitCount.sumThenReset();
+        long miss = missCount.sumThenReset();
+        long coalesced = coalescedCount.sumThenReset();
+        long total = hit + miss + coalesced;
+        if (total == 0) {
+            return;
+        }
+        // 합쳐진 요청도 DB 조회를 하지 않았으므로 적중으로 봄
+        log.info("[ 홈 피드 캐시 ] hitRatio:{}, hit:{}, miss:{}, coalesced:{}, size:{}",
+                String.format("%.3f", (double) (hit + coalesced) / total), hit, miss, coalesced, cache.size());
+    }
+
+    private static PostResDTO.HomePost join(CompletableFuture<PostResDTO.HomePost> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 캐시된 결과(가게명 정렬 순)를 요청한 가게명 순서로 재배열
+    private static PostResDTO.HomePost reorder(PostResDTO.HomePost value, List<String> placeNames) {
+        Map<String, PostResDTO.SimplePost> postByPlaceName = new HashMap<>();
+        for (PostResDTO.SimplePost eachPost : value.simplePost()) {
+            postByPlaceName.putIfAbsent(eachPost.placeName(), eachPost);
+        }
+        return PostConverter.toHomePost(placeNames.stream()
+                .map(placeName -> postByPlaceName.getOrDefault(
+                        placeName,
+                        PostConverter.toSimplePost(null, null, null, placeName, null)
+                ))
+                .toList());
+    }
+
+    private record Entry(PostResDTO.HomePost value, long expiresAt) {}
+
+    // 가게명은 순서, 중복과 무관하게 같은 키가 되도록 정렬
+    // 차단 회원 ID 도 정렬, 중복 제거한 목록 그대로 비교 (해시 충돌로 다른 회원의 결과를 받지 않도록)
+    private record Key(List<String> placeNames, List<Long> hiddenMemberIds) {
+
+        static Key of(List<String> placeNames, List<Long> hiddenMemberIds) {
+            List<String> normalized = placeNames.stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .sorted()
+                    .toList();
+            List<Long> hidden = hiddenMemberIds.stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .sorted()
+                    .toList();
+            return new Key(normalized, hidden);
+        }
+    }
+}
@@ -1,30 +1,44 @@
 package com.project.teama_be.domain.post.service.query;
 
-import com.project.teama_be.domain.location.entity.Location;
-import com.project.teama_be.domain.location.repository.LocationRepository;
-import com.project.teama_be.domain.member.entity.QNotRecommended;
-import com.project.teama_be.domain.member.entity.QRecentlyViewed;
+import com.project.teama_be.domain.location.service.LocationGeoIndex;
+import com.project.teama_be.domain.member.service.query.BlockQueryService;
 import com.project.teama_be.domain.post.converter.PostConverter;
 import com.project.teama_be.domain.post.dto.response.PostResDTO;
 import com.project.teama_be.domain.post.entity.QPost;
+import com.project.teama_be.domain.post.entity.QPostFeed;
 import com.project.teama_be.domain.post.entity.QPostReaction;
 import com.project.teama_be.domain.post.entity.QPostTag;
 import com.project.teama_be.domain.post.enums.ReactionType;
 import com.project.teama_be.domain.post.exception.PostException;
 import com.project.teama_be.domain.post.exception.code.PostErrorCode;
 import com.project.teama_be.domain.post.repository.PostRepository;
+import com.project.teama_be.domain.post.service.counter.PostLikeCounter;
+import com.project.teama_be.domain.post.service.recent.RecentlyViewedStore;
+import com.project.teama_be.domain.post.service.search.KeywordSuggestIndex;
+import com.project.teama_be.domain.post.service.search.PostSearchIndex;
+import com.project.teama_be.domain.post.service.trending.TrendingEngine;
 import com.project.teama_be.global.security.userdetails.AuthUser;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.JPAExpressions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -32,7 +46,14 @@ import java.util.Objects;
 public class PostQueryService {
 
     private final PostRepository postRepository;
-    private final LocationRepository locationRepository;
+    private final LocationGeoIndex locationGeoIndex;
+    private final BlockQueryService blockQueryService;
+    private final PostSearchIndex postSearchIndex;
+    private final KeywordSuggestIndex keywordSuggestIndex;
+    private final PostLikeCounter postLikeCounter;
+    private final RecentlyViewedStore recentlyViewedStore;
+    private final TrendingEngine trendingEngine;
+    private final HomeFeedCache homeFeedCache;
 
     // 각 가게 최신 게시글 조회 ✅
     public PostResDTO.HomePost getPost(
@@ -40,56 +61,52 @@ public class PostQueryService {
             List<String> dto
     ) {
 
-        // 조회할 객체 선언
-        QPost post = QPost.post;
-        QNotRecommended notRecommended = QNotRecommended.notRecommended;
-        BooleanBuilder builder = new BooleanBuilder();
+        // 차단 관계(양방향)인 사용자 : 캐시 키에도 포함
+        List<Long> hiddenMemberIds = blockQueryService.getHiddenMemberIds(user.getUserId());
+
+        // 같은 가게 목록 + 차단 관계면 캐시 응답, 동시 미스는 한 번만 조회
+        return homeFeedCache.get(dto, hiddenMemberIds, placeNames -> {
 
-        // 조건 부여
-        builder.and(post.location.placeName.in(dto))
-                // 내가 차단한 사용자의 게시글 제외
-                .and(post.member.id.notIn(
-                        JPAExpressions.select(notRecommended.targetMemberId)
-                                .from(notRecommended)
-                                .where(notRecommended.member.id.in(user.getUserId()))
-                ))
-                // 상대방이 차단한 경우, 상대방 게시글 제외
-                .and(post.member.id.notIn(
-                        JPAExpressions.select(notRecommended.member.id)
-                                .from(notRecommended)
-                                .where(notRecommended.targetMemberId.in(user.getUserId()))
-                ));
-
-        return postRepository.getPostByPlaceName(builder, dto);
+            // 조회할 객체 선언
+            QPostFeed postFeed = QPostFeed.postFeed;
+            BooleanBuilder builder = new BooleanBuilder();
+
+            // 조건 부여
+            builder.and(postFeed.placeName.in(placeNames));
+            // 차단 관계(양방향)인 사용자의 게시글 제외
+            if (!hiddenMemberIds.isEmpty()) {
+                builder.and(postFeed.memberId.notIn(hiddenMemberIds));
+            }
+
+            return postRepository.getPostByPlaceName(builder, placeNames);
+        });
 
     }
 
     // 메인화면에서 사용자 위치 중심 게시글 리턴
     public PostResDTO.HomePost getNearbyPosts(double lat, double lng, double radiusKm, AuthUser user) {
-        double latDelta = radiusKm / 111.0;
-        double lngDelta = radiusKm / (111.0 * Math.cos(Math.toRadians(lat)));
-
-        double minLat = lat - latDelta;
-        double maxLat = lat + latDelta;
-        double minLng = lng - lngDelta;
-        double maxLng = lng + lngDelta;
-
-        List<Location> locations = locationRepository.findByLatitudeBetweenAndLongitudeBetween(
-                BigDecimal.valueOf(minLat),
-                BigDecimal.valueOf(maxLat),
-                BigDecimal.valueOf(minLng),
-                BigDecimal.valueOf(maxLng)
-        );
-
-        List<PostResDTO.SimplePost> simplePosts = locations.stream()
-                .map(loc -> postRepository.findTopByLocationOrderByCreatedAtDesc(loc))
+
+        // 반경 내 위치 조회 (메모리 인덱스, 가까운 순)
+        List<Long> locationIds = locationGeoIndex.findWithinRadius(lat, lng, radiusKm);
+        if (locationIds.isEmpty()) {
+            return PostConverter.toHomePost(Collections.emptyList());
+        }
+
+        // 위치별 최신 게시글 한 번에 조회
+        QPostFeed postFeed = QPostFeed.postFeed;
+        Map<Long, PostResDTO.SimplePost> postByLocation = postRepository
+                .getLatestPostPerLocation(postFeed.locationId.in(locationIds))
+                .stream()
+                .collect(Collectors.toMap(PostResDTO.SimplePost::placeId, Function.identity()));
+
+        // 가까운 순 정렬 유지
+        List<PostResDTO.SimplePost> simplePosts = locationIds.stream()
+                .map(postByLocation::get)
                 .filter(Objects::nonNull)
-                .map(PostConverter::toSimplePost)
                 .toList();
 
-        return PostResDTO.HomePost.builder()
-                .simplePost(simplePosts)
-                .build();
+        log.info("[ 근처 가게 최신 게시글 조회 ] locationCnt:{}, postCnt:{}", locationIds.size(), simplePosts.size());
+        return PostConverter.toHomePost(simplePosts);
     }
 
     // 키워드 검색 ✅
@@ -101,52 +118,137 @@ public class PostQueryService {
             AuthUser user
     ) {
 
-        // 동적 쿼리 : 검색 타입에 따라 조건을 추가
+        // 동적 쿼리 : 검색 인덱스 결과 ID + 차단 조건
         BooleanBuilder builder = new BooleanBuilder();
-        QPostTag postTag = QPostTag.postTag;
-        QPost post = QPost.post;
-        QNotRecommended notRecommended = QNotRecommended.notRecommended;
+        QPostFeed postFeed = QPostFeed.postFeed;
 
         // 커서가 존재하면 이전에 조회한 게시글부터 조회
+        long maxPostId = Long.MAX_VALUE;
         if (!cursor.equals("-1")){
             try {
-                builder.and(post.id.loe(Long.parseLong(cursor)));
+                maxPostId = Long.parseLong(cursor);
             } catch (NumberFormatException e){
                 throw new PostException(PostErrorCode.NOT_VALID_CURSOR);
             }
         }
 
-        // 내가 차단한 유저 게시글 제외
-        builder.and(post.member.id.notIn(
-                        JPAExpressions.select(notRecommended.targetMemberId)
-                                .from(notRecommended)
-                                .where(notRecommended.member.id.in(user.getUserId()))
-                ))
-                // 상대방이 차단한 경우, 상대방 게시글 제외
-                .and(post.member.id.notIn(
-                        JPAExpressions.select(notRecommended.member.id)
-                                .from(notRecommended)
-                                .where(notRecommended.targetMemberId.in(user.getUserId()))
-                ));
-
-        switch (type.toLowerCase()) {
+        Set<PostSearchIndex.Field> fields = switch (type.toLowerCase()) {
 
             // 태그 검색
-            case "tag" -> builder.and(postTag.tag.tagName.likeIgnoreCase(query + "%"));
+            case "tag" -> EnumSet.of(PostSearchIndex.Field.TAG);
 
             // 가게명 검색
-            case "place" -> builder.and(post.location.placeName.likeIgnoreCase(query + "%"));
+            case "place" -> EnumSet.of(PostSearchIndex.Field.PLACE);
 
             // 지역 검색
-            case "address" -> builder.and(post.location.addressName.likeIgnoreCase(query + "%")
-                            .or(post.location.roadAddressName.likeIgnoreCase(query + "%")));
+            case "address" -> EnumSet.of(PostSearchIndex.Field.ADDRESS);
+
+            // 게시글 내용 검색
+            case "content" -> EnumSet.of(PostSearchIndex.Field.CONTENT);
+
+            // 전체 검색
+            case "all" -> EnumSet.allOf(PostSearchIndex.Field.class);
 
             // 타입이 잘못된 경우
             default -> throw new PostException(PostErrorCode.NOT_VALID_TYPE);
+        };
+
+        // 검색 인덱스에서 후보 게시글 ID 조회 (최신 순)
+        List<Long> postIdList = new ArrayList<>(
+                postSearchIndex.search(fields, query, maxPostId, PostSearchIndex.MAX_CANDIDATES));
+
+        // 색인 범위를 다 훑고도 후보가 부족하면 범위보다 오래된 게시글은 DB 에서 검색
+        long indexedFromId = postSearchIndex.indexedFromId();
+        if (postIdList.size() < PostSearchIndex.MAX_CANDIDATES && indexedFromId > 0) {
+            postIdList.addAll(postRepository.getPostIds(
+                    keywordOutsideIndex(fields, query, Math.min(maxPostId, indexedFromId - 1)),
+                    PostSearchIndex.MAX_CANDIDATES - postIdList.size()
+            ));
+        }
+        if (postIdList.isEmpty()) {
+            throw new PostException(PostErrorCode.NOT_FOUND_KEYWORD);
+        }
+        builder.and(postFeed.postId.in(postIdList));
+
+        // 차단 관계(양방향)인 사용자의 게시글 제외
+        excludeBlockedMember(builder, postFeed.memberId, user);
+
+        log.info("[ 키워드 검색 ] candidateCnt:{}, subQuery:{}", postIdList.size(), builder);
+        return mergePendingLikes(postRepository.getPostsByKeyword(query, builder, size));
+    }
+
+    // 검색 인덱스 범위 밖 키워드 조건 : 인덱스와 같이 소문자, 공백 제거 후 부분 일치 (전체 스캔이므로 오래된 게시글에만 사용)
+    private static BooleanExpression keywordOutsideIndex(Set<PostSearchIndex.Field> fields, String query, long maxPostId) {
+        QPost post = QPost.post;
+        QPostTag postTag = QPostTag.postTag;
+        String pattern = "%" + PostSearchIndex.normalize(query)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+
+        BooleanBuilder match = new BooleanBuilder();
+        for (PostSearchIndex.Field field : fields) {
+            switch (field) {
+                case CONTENT -> match.or(normalized(post.content).like(pattern, '\\'));
+                case PLACE -> match.or(normalized(post.location.placeName).like(pattern, '\\'));
+                case ADDRESS -> match.or(normalized(post.location.addressName).like(pattern, '\\')
+                        .or(normalized(post.location.roadAddressName).like(pattern, '\\')));
+                case TAG -> match.or(JPAExpressions.selectOne()
+                        .from(postTag)
+                        .where(postTag.post.id.eq(post.id)
+                                .and(normalized(postTag.tag.tagName).like(pattern, '\\')))
+                        .exists());
+            }
         }
+        return post.id.loe(maxPostId).and(match);
+    }
+
+    private static StringExpression normalized(StringExpression text) {
+        return Expressions.stringTemplate("replace(lower({0}), ' ', '')", text);
+    }
+
+    // 검색어 자동완성
+    public PostResDTO.Suggestion getSuggestions(
+            String query,
+            String type,
+            int size
+    ) {
+        KeywordSuggestIndex.Type suggestType = switch (type.toLowerCase()) {
+
+            // 태그 자동완성
+            case "tag" -> KeywordSuggestIndex.Type.TAG;
+
+            // 가게명 자동완성
+            case "place" -> KeywordSuggestIndex.Type.PLACE;
+
+            // 타입이 잘못된 경우
+            default -> throw new PostException(PostErrorCode.NOT_VALID_TYPE);
+        };
+
+        List<String> keywords = keywordSuggestIndex.suggest(suggestType, query, size);
+        return PostConverter.toSuggestion(type.toLowerCase(), keywords);
+    }
+
+    // 인기 게시글, 가게 조회 (메모리 랭킹)
+    public PostResDTO.Trending getTrending(
+            String type,
+            String region,
+            int size
+    ) {
+        List<PostResDTO.TrendingItem> items = switch (type.toLowerCase()) {
+
+            // 인기 게시글
+            case "post" -> trendingEngine.getTrendingPosts(region, size);
+
+            // 인기 가게
+            case "place" -> trendingEngine.getTrendingPlaces(region, size);
 
-        log.info("[ 키워드 검색 ] subQuery:{}", builder);
-        return postRepository.getPostsByKeyword(query, builder, size);
+            // 타입이 잘못된 경우
+            default -> throw new PostException(PostErrorCode.NOT_VALID_TYPE);
+        };
+
+        log.info("[ 인기 랭킹 조회 ] type:{}, region:{}, resultCnt:{}", type, region, items.size());
+        return PostConverter.toTrending(type.toLowerCase(), region, items);
     }
 
     // 가게 게시글 모두 조회 ✅
@@ -157,33 +259,22 @@ public class PostQueryService {
             AuthUser user
     ) {
         BooleanBuilder builder = new BooleanBuilder();
-        QPost post = QPost.post;
-        QNotRecommended notRecommended = QNotRecommended.notRecommended;
+        QPostFeed postFeed = QPostFeed.postFeed;
 
-        builder.and(post.location.id.eq(placeId));
+        builder.and(postFeed.locationId.eq(placeId));
         if (!cursor.equals("-1")) {
             try {
-                builder.and(post.id.loe(Long.parseLong(cursor)));
+                builder.and(postFeed.postId.loe(Long.parseLong(cursor)));
             } catch (NumberFormatException e){
                 throw new PostException(PostErrorCode.NOT_VALID_CURSOR);
             }
         }
 
-        // 내가 차단한 사용자의 게시글 제외
-        builder.and(post.member.id.notIn(
-                        JPAExpressions.select(notRecommended.targetMemberId)
-                                .from(notRecommended)
-                                .where(notRecommended.member.id.in(user.getUserId()))
-                ))
-                // 상대방이 차단한 경우, 상대방 게시글 제외
-                .and(post.member.id.notIn(
-                        JPAExpressions.select(notRecommended.member.id)
-                                .from(notRecommended)
-                                .where(notRecommended.targetMemberId.in(user.getUserId()))
-                ));
+        // 차단 관계(양방향)인 사용자의 게시글 제외
+        excludeBlockedMember(builder, postFeed.memberId, user);
 
         log.info("[ 가게 게시글 모두 조회 ] subQuery:{}", builder);
-        return postRepository.getPostsByPlaceId(builder, size);
+        return mergePendingLikes(postRepository.getPostsByPlaceId(builder, size));
     }
 
     // 내가 작성한 게시글 조회 (마이페이지) ✅
@@ -194,30 +285,19 @@ public class PostQueryService {
     ) {
 
         BooleanBuilder builder = new BooleanBuilder();
-        QPost post = QPost.post;
-        QNotRecommended notRecommended = QNotRecommended.notRecommended;
+        QPostFeed postFeed = QPostFeed.postFeed;
 
-        builder.and(post.member.id.eq(user.getUserId()));
+        builder.and(postFeed.memberId.eq(user.getUserId()));
         if (!cursor.equals("-1")) {
             try {
-                builder.and(post.id.loe(Long.parseLong(cursor)));
+                builder.and(postFeed.postId.loe(Long.parseLong(cursor)));
             } catch (NumberFormatException e){
                 throw new PostException(PostErrorCode.NOT_VALID_CURSOR);
             }
         }
 
-        // 내가 차단한 사용자의 게시글 제외
-        builder.and(post.member.id.notIn(
-                        JPAExpressions.select(notRecommended.targetMemberId)
-                                .from(notRecommended)
-                                .where(notRecommended.member.id.in(user.getUserId()))
-                ))
-                // 상대방이 차단한 경우, 상대방 게시글 제외
-                .and(post.member.id.notIn(
-                        JPAExpressions.select(notRecommended.member.id)
-                                .from(notRecommended)
-                                .where(notRecommended.targetMemberId.in(user.getUserId()))
-                ));
+        // 차단 관계(양방향)인 사용자의 게시글 제외
+        excludeBlockedMember(builder, postFeed.memberId, user);
 
         log.info("[ 내가 작성한 게시글 조회 ] subQuery:{}", builder);
         return postRepository.getMyPosts(builder, size);
@@ -231,29 +311,18 @@ public class PostQueryService {
     ){
 
         BooleanBuilder builder = new BooleanBuilder();
-        QPost post = QPost.post;
+        QPostFeed postFeed = QPostFeed.postFeed;
         QPostReaction postReaction = QPostReaction.postReaction;
-        QNotRecommended notRecommended = QNotRecommended.notRecommended;
 
         builder.and(postReaction.member.id.eq(user.getUserId()))
                 .and(postReaction.reactionType.eq(ReactionType.LIKE));
 
-        // 내가 차단한 사용자의 게시글 제외
-        builder.and(post.member.id.notIn(
-                        JPAExpressions.select(notRecommended.targetMemberId)
-                                .from(notRecommended)
-                                .where(notRecommended.member.id.in(user.getUserId()))
-                ))
-                // 상대방이 차단한 경우, 상대방 게시글 제외
-                .and(post.member.id.notIn(
-                        JPAExpressions.select(notRecommended.member.id)
-                                .from(notRecommended)
-                                .where(notRecommended.targetMemberId.in(user.getUserId()))
-                ));
+        // 차단 관계(양방향)인 사용자의 게시글 제외
+        excludeBlockedMember(builder, postFeed.memberId, user);
 
         if (!cursor.equals("-1")) {
             try {
-                builder.and(post.id.loe(Long.parseLong(cursor)));
+                builder.and(postFeed.postId.loe(Long.parseLong(cursor)));
             } catch (NumberFormatException e){
                 throw new PostException(PostErrorCode.NOT_VALID_CURSOR);
             }
@@ -263,41 +332,86 @@ public class PostQueryService {
         return postRepository.getMyLikePost(builder, size);
     }
 
-    // 최근 본 게시글 조회
+    // 최근 본 게시글 조회 : Redis sorted set 한 번 + 게시글 일괄 조회 한 번
     public PostResDTO.PageablePost<PostResDTO.RecentPost> getRecentlyViewedPost(
             AuthUser user,
             String cursor,
             int size
     ){
 
-        BooleanBuilder builder = new BooleanBuilder();
-        QRecentlyViewed recentlyViewed = QRecentlyViewed.recentlyViewed;
-        QNotRecommended notRecommended = QNotRecommended.notRecommended;
-
-        builder.and(recentlyViewed.member.id.eq(user.getUserId()));
-
-        // 내가 차단한 사용자의 게시글 제외
-        builder.and(recentlyViewed.member.id.notIn(
-                        JPAExpressions.select(notRecommended.targetMemberId)
-                                .from(notRecommended)
-                                .where(notRecommended.member.id.in(user.getUserId()))
-                ))
-                // 상대방이 차단한 경우, 상대방 게시글 제외
-                .and(recentlyViewed.member.id.notIn(
-                        JPAExpressions.select(notRecommended.member.id)
-                                .from(notRecommended)
-                                .where(notRecommended.targetMemberId.in(user.getUserId()))
-                ));
-
+        // 커서가 존재하면 해당 시각 이전에 본 게시글부터 조회
+        LocalDateTime maxViewedAt = null;
         if (!cursor.equals("-1")) {
             try {
-                LocalDateTime newCursor = LocalDateTime.parse(cursor);
-                builder.and(recentlyViewed.viewedAt.loe(newCursor));
+                maxViewedAt = LocalDateTime.parse(cursor);
             } catch (DateTimeParseException e) {
                 throw new PostException(PostErrorCode.NOT_VALID_CURSOR);
             }
         }
 
-        return postRepository.getRecentlyViewedPost(builder, size);
+        // 본 시각 최신 순 게시글 ID
+        List<RecentlyViewedStore.View> views = recentlyViewedStore.getViews(user.getUserId(), maxViewedAt, size+1);
+        if (views.isEmpty()) {
+            throw new PostException(PostErrorCode.VIEWED_POST_NOT_FOUND);
+        }
+
+        // 메타데이터 생성
+        Boolean hasNext = views.size() > size;
+        int pageSize = Math.min(views.size(), size);
+        String nextCursor = views.get(hasNext ? pageSize : pageSize-1).viewedAt().toString();
+        views = views.subList(0, pageSize);
+
+        // 게시글 일괄 조회 (삭제된 게시글, 차단 관계(양방향)인 사용자의 게시글 제외)
+        QPostFeed postFeed = QPostFeed.postFeed;
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(postFeed.postId.in(views.stream().map(RecentlyViewedStore.View::postId).toList()));
+        excludeBlockedMember(builder, postFeed.memberId, user);
+
+        Map<Long, PostResDTO.SimplePost> postById = postRepository.getSimplePosts(builder).stream()
+                .collect(Collectors.toMap(PostResDTO.SimplePost::postId, Function.identity()));
+
+        // 본 시각 순서 유지
+        List<PostResDTO.RecentPost> result = views.stream()
+                .filter(view -> postById.containsKey(view.postId()))
+                .map(view -> PostConverter.toRecentlyViewedPost(postById.get(view.postId()), view.viewedAt()))
+                .toList();
+
+        log.info("[ 최근 본 게시글 조회 ] resultCnt:{}, hasNext:{}, nextCursor:{}", result.size(), hasNext, nextCursor);
+        return PostConverter.toPageablePost(result, PostConverter.toCursor(nextCursor, hasNext, pageSize));
+    }
+
+    // 아직 DB에 반영되지 않은 좋아요 증감 합산
+    private PostResDTO.PageablePost<PostResDTO.FullPost> mergePendingLikes(
+            PostResDTO.PageablePost<PostResDTO.FullPost> page
+    ) {
+        List<PostResDTO.FullPost> posts = page.post().stream()
+                .map(eachPost -> {
+                    long pending = postLikeCounter.getPending(eachPost.postId());
+                    if (pending == 0L) {
+                        return eachPost;
+                    }
+                    long likeCount = eachPost.likeCount() == null ? 0L : eachPost.likeCount();
+                    return PostConverter.toFullPost(eachPost, Math.max(0L, likeCount + pending));
+                })
+                .toList();
+
+        return PostResDTO.PageablePost.<PostResDTO.FullPost>builder()
+                .post(posts)
+                .hasNext(page.hasNext())
+                .pageSize(page.pageSize())
+                .cursor(page.cursor())
+                .build();
+    }
+
+    // 차단 관계(내가 차단, 날 차단)인 사용자 제외
+    private void excludeBlockedMember(
+            BooleanBuilder builder,
+            NumberPath<Long> memberId,
+            AuthUser user
+    ) {
+        List<Long> hiddenMemberIds = blockQueryService.getHiddenMemberIds(user.getUserId());
+        if (!hiddenMemberIds.isEmpty()) {
+            builder.and(memberId.notIn(hiddenMemberIds));
+        }
     }
 }
@@ -0,0 +1,208 @@
+package com.project.teama_be.domain.post.service.recent;
+
+import com.project.teama_be.domain.member.entity.RecentlyViewed;
+import com.project.teama_be.domain.member.repository.RecentlyViewedRepository;
+import com.project.teama_be.global.entity.TsidGenerator;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/** 최근 본 게시글 저장소 :
+ * 회원별 Redis sorted set (member = 게시글 ID, score = 본 시각)에 최대 MAX_SIZE 개까지 보관합니다.
+ * 조회, 기록은 Redis 만 사용하고 recently_viewed 테이블에는 주기적으로 모아서 upsert 합니다.
+ * 테이블에서 적재했다는 표시 키가 없으면(만료, 초기화) 조회 시 테이블 기록을 Redis 에 합칩니다.
+ * (Redis 초기화 후 새로 본 게시글만 있는 경우에도 이전 기록이 돌아옴)
+ * 그 사이 탈퇴, 삭제된 회원, 게시글의 기록은 반영하지 않고 버립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentlyViewedStore {
+
+    // 회원별 보관 개수
+    private static final int MAX_SIZE = 100;
+    private static final long TTL_DAYS = 30L;
+    private static final long FLUSH_INTERVAL_MS = 10_000L;
+    private static final String KEY_PREFIX = "recent-view:";
+    // 테이블 기록 적재 여부 표시
+    private static final String LOADED_KEY_PREFIX = "recent-view:loaded:";
+    // 회원, 게시글이 남아 있는 기록만 반영 (탈퇴 회원 정리 이후의 기록이 외래키에 걸려 계속 실패하지 않도록)
+    private static final String FLUSH_SQL = """
+            INSERT INTO recently_viewed (member_id, post_id, viewed_at, id)
+            SELECT v.member_id, v.post_id, v.viewed_at, v.id
+              FROM (SELECT ? AS member_id, ? AS post_id, ? AS viewed_at, ? AS id) v
+             WHERE EXISTS (SELECT 1 FROM member m WHERE m.id = v.member_id)
+               AND EXISTS (SELECT 1 FROM post p WHERE p.id = v.post_id)
+            ON DUPLICATE KEY UPDATE
+                viewed_at = GREATEST(recently_viewed.viewed_at, v.viewed_at),
+                deleted_at = NULL
+            """;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RecentlyViewedRepository recentlyViewedRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 아직 테이블에 반영되지 않은 기록 (같은 회원, 게시글은 최신 시각만)
+    private final Map<ViewKey, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    // 게시글 본 기록
+    public void add(Long memberId, Long postId, LocalDateTime viewedAt) {
+        String key = key(memberId);
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+
+        zSet.add(key, postId.toString(), toScore(viewedAt));
+        // 오래된 기록 잘라내기 (최신 MAX_SIZE 개만 유지)
+        zSet.removeRange(key, 0, -(MAX_SIZE + 1));
+        stringRedisTemplate.expire(key, TTL_DAYS, TimeUnit.DAYS);
+
+        pending.merge(new ViewKey(memberId, postId), viewedAt,
+                (prev, next) -> next.isAfter(prev) ? next : prev);
+    }
+
+    /** 최근 본 게시글 조회 (본 시각 최신 순)
+     *
+     * @param memberId 회원 ID
+     * @param maxViewedAt 커서 (이 시각 이하만 조회, null 이면 처음부터)
+     * @param limit 최대 개수
+     * @return 게시글 ID, 본 시각
+     */
+    public List<View> getViews(Long memberId, LocalDateTime maxViewedAt, int limit) {
+        String key = key(memberId);
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(loadedKey(memberId)))) {
+            loadFromDb(memberId);
+        }
+
+        double max = maxViewedAt == null ? Double.POSITIVE_INFINITY : toScore(maxViewedAt);
+        Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, max, 0, limit);
+        if (tuples == null) {
+            return Collections.emptyList();
+        }
+
+        return tuples.stream()
+                .map(tuple -> new View(Long.valueOf(tuple.getValue()), toViewedAt(tuple.getScore())))
+                .toList();
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 기록을 원자적으로 떼어냄 (이후 기록은 새 항목으로 누적)
+        List<Object[]> batch = new ArrayList<>();
+        for (ViewKey viewKey : pending.keySet()) {
+            LocalDateTime viewedAt = pending.remove(viewKey);
+            if (viewedAt != null) {
+                batch.add(new Object[]{
+                        viewKey.memberId(), viewKey.postId(), Timestamp.valueOf(viewedAt), TsidGenerator.next()});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            log.info("[ 최근 본 게시글 반영 ] viewCnt:{}", batch.size());
+        } catch (DataIntegrityViolationException e) {
+            // 확인 직후 삭제된 회원, 게시글 등 : 한 건씩 다시 반영하고 계속 실패하는 기록만 버림
+            log.warn("[ 최근 본 게시글 반영 ] 제약 위반, 한 건씩 재시도 viewCnt:{}", batch.size());
+            flushEach(batch);
+        } catch (RuntimeException e) {
+            // 일시적인 실패 : 다음 주기에 재시도
+            batch.forEach(this::requeue);
+            log.error("[ 최근 본 게시글 반영 실패 ] viewCnt:{}", batch.size(), e);
+        }
+    }
+
+    // 한 건씩 반영 : 제약 위반은 버리고, 그 외 실패는 다음 주기에 재시도
+    private void flushEach(List<Object[]> batch) {
+        int dropped = 0;
+        for (Object[] row : batch) {
+            try {
+                jdbcTemplate.update(FLUSH_SQL, row);
+            } catch (DataIntegrityViolationException e) {
+                dropped++;
+                log.warn("[ 최근 본 게시글 반영 ] 버림 memberID:{}, postID:{}, message:{}",
+                        row[0], row[1], e.getMessage());
+            } catch (RuntimeException e) {
+                requeue(row);
+                log.error("[ 최근 본 게시글 반영 실패 ] memberID:{}, postID:{}", row[0], row[1], e);
+            }
+        }
+        log.info("[ 최근 본 게시글 반영 ] viewCnt:{}, droppedCnt:{}", batch.size(), dropped);
+    }
+
+    private void requeue(Object[] row) {
+        pending.merge(
+                new ViewKey((Long) row[0], (Long) row[1]),
+                ((Timestamp) row[2]).toLocalDateTime(),
+                (prev, next) -> next.isAfter(prev) ? next : prev);
+    }
+
+    // 서버 종료 시 남은 기록 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 적재 표시가 없을 때 테이블의 최신 MAX_SIZE 개를 합침 (Redis 에 이미 있는 게시글은 Redis 시각 유지)
+    private void loadFromDb(Long memberId) {
+        List<RecentlyViewed> views = recentlyViewedRepository
+                .findByMemberIdOrderByViewedAtDesc(memberId, PageRequest.of(0, MAX_SIZE));
+
+        String key = key(memberId);
+        if (!views.isEmpty()) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+            for (RecentlyViewed view : views) {
+                tuples.add(ZSetOperations.TypedTuple.of(view.getPost().getId().toString(), toScore(view.getViewedAt())));
+            }
+            ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+            zSet.addIfAbsent(key, tuples);
+            zSet.removeRange(key, 0, -(MAX_SIZE + 1));
+            stringRedisTemplate.expire(key, TTL_DAYS, TimeUnit.DAYS);
+        }
+        stringRedisTemplate.opsForValue().set(loadedKey(memberId), "1", TTL_DAYS, TimeUnit.DAYS);
+        log.info("[ 최근 본 게시글 적재 ] memberID:{}, viewCnt:{}", memberId, views.size());
+    }
+
+    private static String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private static String loadedKey(Long memberId) {
+        return LOADED_KEY_PREFIX + memberId;
+    }
+
+    private static double toScore(LocalDateTime viewedAt) {
+        return viewedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toViewedAt(Double score) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(score.longValue()), ZoneId.systemDefault());
+    }
+
+    // 게시글 ID, 본 시각
+    public record View(Long postId, LocalDateTime viewedAt) {}
+
+    private record ViewKey(Long memberId, Long postId) {}
+}
@@ -0,0 +1,208 @@
+package com.project.teama_be.domain.post.service.search;
+
+import com.project.teama_be.domain.post.repository.PostRepository;
+import com.project.teama_be.global.utils.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 검색어 자동완성 인덱스 :
+ * 태그명, 가게명을 접두사 트라이로 보관하고 사용 횟수(게시글 수)를 가중치로 둡니다.
+ * 각 노드가 자기 하위의 상위 K개를 미리 들고 있어 조회는 접두사 길이만큼만 내려갑니다.
+ * 증감은 이 서버에만 반영되므로, RELOAD_INTERVAL_MS 간격으로 DB 기준 사용 횟수를 다시 적재해 다른 서버의 변경을 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordSuggestIndex {
+
+    // 노드별로 미리 계산해 두는 추천 개수 (조회 가능한 최대 개수)
+    public static final int MAX_SUGGESTIONS = 10;
+    // 타입별 최대 단어 수 (메모리 상한)
+    private static final int MAX_TERMS = 200_000;
+    private static final long RELOAD_INTERVAL_MS = 10 * 60 * 1000L;
+
+    private final PostRepository postRepository;
+    private final Map<Type, Trie> tries = new EnumMap<>(Type.class);
+
+    public enum Type {
+        TAG, PLACE
+    }
+
+    // 서버 시작 시 사용 횟수 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        Trie tagTrie = new Trie();
+        postRepository.getTagUsageCounts().forEach(tagTrie::add);
+        Trie placeTrie = new Trie();
+        postRepository.getPlacePostCounts().forEach(placeTrie::add);
+
+        synchronized (tries) {
+            tries.put(Type.TAG, tagTrie);
+            tries.put(Type.PLACE, placeTrie);
+        }
+        log.info("[ 자동완성 인덱스 적재 ] tagCnt:{}, placeCnt:{}", tagTrie.termCount, placeTrie.termCount);
+    }
+
+    // 주기 재적재 : 다른 서버의 증감 반영
+    @Scheduled(initialDelay = RELOAD_INTERVAL_MS, fixedDelay = RELOAD_INTERVAL_MS)
+    public void reload() {
+        load();
+    }
+
+    // 사용 횟수 증감 (커밋 이후)
+    public void add(Type type, String term, long delta) {
+        if (term != null) {
+            add(type, List.of(term), delta);
+        }
+    }
+
+    // 사용 횟수 증감 (커밋 이후)
+    public void add(Type type, Collection<String> terms, long delta) {
+        if (terms.isEmpty()) {
+            return;
+        }
+        List<String> copied = List.copyOf(terms);
+        TransactionUtil.afterCommit(() -> {
+            Trie trie = trie(type);
+            copied.forEach(term -> trie.add(term, delta));
+        });
+    }
+
+    /** 접두사 자동완성
+     *
+     * @param type 태그, 가게명
+     * @param prefix 입력 중인 검색어
+     * @param size 최대 개수 (MAX_SUGGESTIONS 이하)
+     * @return 사용 횟수 순 검색어 목록
+     */
+    public List<String> suggest(Type type, String prefix, int size) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Node node = trie(type).root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null) {
+            return Collections.emptyList();
+        }
+
+        return Arrays.stream(node.top)
+                .limit(Math.min(size, MAX_SUGGESTIONS))
+                .map(Entry::term)
+                .toList();
+    }
+
+    private Trie trie(Type type) {
+        synchronized (tries) {
+            return tries.computeIfAbsent(type, t -> new Trie());
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+
+    // 추천 후보 (원래 표기, 가중치)
+    private record Entry(String term, long weight) {}
+
+    private static final class Node {
+        private final Map<Character, Node> children = new ConcurrentHashMap<>();
+        // 하위 단어 중 가중치 상위 K개 : 조회는 락 없이 배열 교체만 보이도록 volatile
+        private volatile Entry[] top = new Entry[0];
+        private String term;
+        private long weight;
+    }
+
+    private static final class Trie {
+
+        private final Node root = new Node();
+        private int termCount;
+
+        synchronized void add(String term, long delta) {
+            String key = normalize(term);
+            if (key.isEmpty()) {
+                return;
+            }
+
+            // 경로 생성 (상한 초과 시 신규 단어는 무시)
+            Node[] path = new Node[key.length() + 1];
+            path[0] = root;
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                Node child = node.children.get(key.charAt(i));
+                if (child == null) {
+                    if (termCount >= MAX_TERMS || delta <= 0) {
+                        return;
+                    }
+                    child = new Node();
+                    node.children.put(key.charAt(i), child);
+                }
+                node = child;
+                path[i + 1] = node;
+            }
+
+            if (node.term == null) {
+                if (delta <= 0) {
+                    return;
+                }
+                node.term = term;
+                termCount++;
+            }
+            node.weight = Math.max(0L, node.weight + delta);
+
+            // 경로 위 모든 노드의 상위 K개 갱신
+            Entry updated = new Entry(node.term, node.weight);
+            if (delta > 0) {
+                // 증가 : 기존 상위 목록에 합치기만 하면 됨
+                for (Node eachNode : path) {
+                    eachNode.top = merge(eachNode.top, updated);
+                }
+                return;
+            }
+            // 감소 : 밀려났던 단어가 다시 올라올 수 있으므로 자식 상위 목록으로 아래에서부터 재계산
+            for (int i = path.length - 1; i >= 0; i--) {
+                path[i].top = recompute(path[i]);
+            }
+        }
+
+        private static Entry[] recompute(Node node) {
+            List<Entry> entries = new ArrayList<>();
+            if (node.term != null && node.weight > 0) {
+                entries.add(new Entry(node.term, node.weight));
+            }
+            for (Node child : node.children.values()) {
+                entries.addAll(Arrays.asList(child.top));
+            }
+            return sortAndLimit(entries);
+        }
+
+        private static Entry[] merge(Entry[] top, Entry updated) {
+            List<Entry> entries = new ArrayList<>(top.length + 1);
+            for (Entry entry : top) {
+                if (!entry.term().equals(updated.term())) {
+                    entries.add(entry);
+                }
+            }
+            if (updated.weight() > 0) {
+                entries.add(updated);
+            }
+            return sortAndLimit(entries);
+        }
+
+        private static Entry[] sortAndLimit(List<Entry> entries) {
+            entries.sort(Comparator.comparingLong(Entry::weight).reversed()
+                    .thenComparing(Entry::term));
+            return entries.stream().limit(MAX_SUGGESTIONS).toArray(Entry[]::new);
+        }
+    }
+}
@@ -0,0 +1,460 @@
+package com.project.teama_be.domain.post.service.search;
+
+import com.project.teama_be.domain.post.dto.response.PostResDTO;
+import com.project.teama_be.domain.post.repository.PostRepository;
+import com.project.teama_be.global.utils.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/** 게시글 검색 인덱스 :
+ * 게시글 내용, 가게명, 주소(지번/도로명), 태그를 1-gram, 2-gram 으로 쪼갠 역색인입니다.
+ * 한글은 띄어쓰기가 불규칙하므로 공백을 제거한 문자열 기준으로 부분 일치(중간에 포함된 키워드도 일치)를 검색합니다.
+ * (이전의 DB 검색은 태그, 가게명, 주소를 접두 일치로 검색했음)
+ * 메모리 사용을 제한하기 위해 최신 MAX_DOCUMENTS 개 게시글만 색인하고, posting 은 정렬된 long 배열로 보관합니다.
+ * 색인 범위보다 오래된 게시글은 indexedFromId() 를 기준으로 호출하는 쪽에서 DB 로 검색합니다.
+ * 게시글 업로드, 수정, 삭제가 커밋되면 이 서버에 즉시 반영하고, pub/sub 으로 게시글 ID 를 전파해 다른 서버는 DB 에서 다시 읽어 반영합니다.
+ * pub/sub 은 전달을 보장하지 않으므로 1분 간격으로 마지막 색인 ID 이후 게시글을 채우고,
+ * 채널을 다시 구독(Redis 재연결)하면 재구축합니다. 매일 새벽에도 DB 기준으로 다시 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    // 한 번의 검색에서 DB로 넘길 최대 후보 수
+    public static final int MAX_CANDIDATES = 1000;
+    // 메모리에 색인할 최대 게시글 수 (최신 순)
+    public static final int MAX_DOCUMENTS = 100_000;
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    private static final String MULTI_VALUE_SEPARATOR = "|";
+    private static final String CHANNEL = "search-index:changed";
+    private static final long CATCH_UP_INTERVAL_MS = 60_000L;
+    // 전파 메시지에 붙여 자기 메시지는 건너뜀
+    private static final String NODE_ID = UUID.randomUUID().toString();
+
+    private final PostRepository postRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 검색은 읽기 잠금, 반영은 쓰기 잠금 (posting 배열을 제자리에서 수정)
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index(0L);
+    // 재구축 중인 인덱스 : 재구축 중에 반영된 변경도 함께 적용
+    private Index rebuilding;
+    // 첫 구축 전에는 재구독 재구축, 보충을 건너뜀
+    private volatile boolean ready = false;
+
+    public enum Field {
+        CONTENT, PLACE, ADDRESS, TAG
+    }
+
+    // 서버 시작 시 구독 후 DB에서 재구축 (구독을 먼저 해야 구축 중 변경이 빠지지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        redisMessageListenerContainer.addMessageListener(new Listener(), new ChannelTopic(CHANNEL));
+        rebuild();
+        ready = true;
+    }
+
+    // 매일 새벽 재구축 : 색인 범위 밖으로 밀려난 ID 정리, 배열 여유 공간 회수
+    @Scheduled(cron = "0 0 5 * * *")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    // DB 기준 전체 재구축 : 새 인덱스를 만든 뒤 교체 (재구축 중에도 기존 인덱스로 검색)
+    public synchronized void rebuild() {
+
+        // 최신 MAX_DOCUMENTS 개부터 색인
+        Long fromId = postRepository.getSearchWindowStartId(MAX_DOCUMENTS);
+        Index next = new Index(fromId == null ? 0L : fromId);
+        lock.writeLock().lock();
+        try {
+            rebuilding = next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long lastId = fromId == null ? 0L : fromId - 1;
+        List<PostResDTO.SearchDocument> chunk;
+        do {
+            chunk = postRepository.getSearchDocuments(lastId, REBUILD_CHUNK_SIZE);
+            lock.writeLock().lock();
+            try {
+                for (PostResDTO.SearchDocument document : chunk) {
+                    next.put(document);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).postId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            next.trim();
+            index = next;
+            rebuilding = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[ 검색 인덱스 재구축 ] postCnt:{}, gramCnt:{}, indexedFromId:{}",
+                next.documents.size(), next.postings.size(), next.floorId);
+    }
+
+    // 마지막 색인 ID 이후 게시글 보충 : 전파를 놓친 새 게시글 (수정, 삭제는 재구독, 매일 재구축으로 보정)
+    @Scheduled(initialDelay = CATCH_UP_INTERVAL_MS, fixedDelay = CATCH_UP_INTERVAL_MS)
+    public void catchUp() {
+        if (!ready) {
+            return;
+        }
+        long lastId;
+        lock.readLock().lock();
+        try {
+            lastId = index.documents.isEmpty() ? index.floorId - 1 : index.documents.lastKey();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int indexedCnt = 0;
+        List<PostResDTO.SearchDocument> chunk;
+        do {
+            chunk = postRepository.getSearchDocuments(Math.max(lastId, 0L), REBUILD_CHUNK_SIZE);
+            for (PostResDTO.SearchDocument document : chunk) {
+                apply(target -> target.put(document));
+            }
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).postId();
+                indexedCnt += chunk.size();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        if (indexedCnt > 0) {
+            log.info("[ 검색 인덱스 보충 ] postCnt:{}, lastPostID:{}", indexedCnt, lastId);
+        }
+    }
+
+    // 게시글 추가, 수정 반영 (커밋 이후)
+    public void index(PostResDTO.SearchDocument document) {
+        TransactionUtil.afterCommit(() -> {
+            apply(target -> target.put(document));
+            publish(document.postId());
+        });
+    }
+
+    // 게시글 삭제 반영 (커밋 이후)
+    public void remove(Long postId) {
+        TransactionUtil.afterCommit(() -> {
+            apply(target -> target.delete(postId));
+            publish(postId);
+        });
+    }
+
+    // 색인 범위 : 이 ID 보다 작은 게시글은 색인되지 않음 (전체가 색인되어 있으면 0)
+    public long indexedFromId() {
+        lock.readLock().lock();
+        try {
+            return index.floorId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 키워드 검색
+     *
+     * @param fields 검색할 필드
+     * @param query 검색어
+     * @param maxPostId 커서 (이 ID 이하만 조회)
+     * @param limit 최대 결과 수
+     * @return 일치하는 게시글 ID (최신 순, 색인 범위 안에서만)
+     */
+    public List<Long> search(Set<Field> fields, String query, long maxPostId, int limit) {
+        String keyword = normalize(query);
+        if (keyword.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        TreeSet<Long> result = new TreeSet<>(Comparator.reverseOrder());
+        lock.readLock().lock();
+        try {
+            for (Field field : fields) {
+                index.searchField(field, keyword, maxPostId, limit, result);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result.stream().limit(limit).toList();
+    }
+
+    // 다른 서버에 변경된 게시글 ID 전파 (실패해도 보충, 재구축으로 보정)
+    private void publish(Long postId) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, NODE_ID + ":" + postId);
+        } catch (RuntimeException e) {
+            log.warn("[ 검색 인덱스 전파 실패 ] postID:{}", postId, e);
+        }
+    }
+
+    // 다른 서버의 변경 반영 : DB 에 있으면 다시 색인, 없으면 삭제
+    private void refresh(Long postId) {
+        List<PostResDTO.SearchDocument> documents = postRepository.getSearchDocuments(postId - 1, 1);
+        if (!documents.isEmpty() && documents.get(0).postId().equals(postId)) {
+            apply(target -> target.put(documents.get(0)));
+        } else {
+            apply(target -> target.delete(postId));
+        }
+    }
+
+    // 현재 인덱스 + 재구축 중인 인덱스에 반영
+    private void apply(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (rebuilding != null) {
+                change.accept(rebuilding);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어 정규화 : 소문자, 공백 제거
+    public static String normalize(String text) {
+        return nullToEmpty(text).toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+
+    // 검색어가 한 글자면 1-gram, 두 글자 이상이면 2-gram 으로 조회하므로 둘 다 색인
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> queryGrams(String keyword) {
+        if (keyword.length() == 1) {
+            return Set.of(keyword);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= keyword.length(); i++) {
+            grams.add(keyword.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static String key(Field field, String gram) {
+        return field.name() + ":" + gram;
+    }
+
+    private static String nullToEmpty(String text) {
+        return text == null ? "" : text;
+    }
+
+    // 채널 구독 : 다른 서버의 변경 반영, 재구독(재연결) 시 재구축
+    private final class Listener implements MessageListener, SubscriptionListener {
+
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.lastIndexOf(':');
+            if (body.substring(0, separator).equals(NODE_ID)) {
+                return;
+            }
+            Long postId = Long.valueOf(body.substring(separator + 1));
+            try {
+                refresh(postId);
+            } catch (RuntimeException e) {
+                log.warn("[ 검색 인덱스 전파 반영 실패 ] postID:{}", postId, e);
+            }
+        }
+
+        @Override
+        public void onChannelSubscribed(byte[] channel, long count) {
+            // 첫 구독은 onReady() 에서 구축하므로 건너뜀
+            if (!ready) {
+                return;
+            }
+            log.info("[ 검색 인덱스 ] 채널 재구독, 재구축");
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("[ 검색 인덱스 ] 재구독 후 재구축 실패", e);
+            }
+        }
+    }
+
+    // 인덱스 한 벌 : 잠금 안에서만 접근
+    private static final class Index {
+
+        // "필드:gram" -> 게시글 ID (오름차순 long 배열)
+        private final Map<String, Posting> postings = new HashMap<>();
+        // 게시글 ID -> 필드별 정규화된 문자열 (검증, 삭제용, 오래된 순)
+        private final TreeMap<Long, String[]> documents = new TreeMap<>();
+        // 이 ID 보다 작은 게시글은 색인하지 않음 (posting 에 남은 이전 ID 는 검색 시 무시)
+        private long floorId;
+
+        private Index(long floorId) {
+            this.floorId = floorId;
+        }
+
+        // 필드 하나 검색 : 가장 짧은 posting 을 최신 순으로 훑으며 나머지 gram 과 실제 문자열을 확인
+        void searchField(Field field, String keyword, long maxPostId, int limit, TreeSet<Long> result) {
+            List<Posting> lists = new ArrayList<>();
+            for (String gram : queryGrams(keyword)) {
+                Posting posting = postings.get(key(field, gram));
+                if (posting == null) {
+                    return;
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Posting::size));
+
+            Posting shortest = lists.get(0);
+            int found = 0;
+            for (int i = shortest.floorIndex(maxPostId); i >= 0 && found < limit; i--) {
+                long postId = shortest.get(i);
+                if (postId < floorId) {
+                    return;
+                }
+                boolean matched = true;
+                for (int j = 1; j < lists.size() && matched; j++) {
+                    matched = lists.get(j).contains(postId);
+                }
+                if (!matched) {
+                    continue;
+                }
+                String[] document = documents.get(postId);
+                if (document != null && document[field.ordinal()].contains(keyword)) {
+                    result.add(postId);
+                    found++;
+                }
+            }
+        }
+
+        void put(PostResDTO.SearchDocument document) {
+            long postId = document.postId();
+            if (postId < floorId) {
+                return;
+            }
+            delete(postId);
+
+            String[] texts = new String[Field.values().length];
+            texts[Field.CONTENT.ordinal()] = normalize(document.content());
+            texts[Field.PLACE.ordinal()] = normalize(document.placeName());
+            texts[Field.ADDRESS.ordinal()] = normalize(
+                    nullToEmpty(document.addressName()) + MULTI_VALUE_SEPARATOR + nullToEmpty(document.roadAddressName()));
+            texts[Field.TAG.ordinal()] = normalize(String.join(MULTI_VALUE_SEPARATOR, document.tags()));
+
+            for (Field field : Field.values()) {
+                for (String gram : grams(texts[field.ordinal()])) {
+                    postings.computeIfAbsent(key(field, gram), k -> new Posting()).add(postId);
+                }
+            }
+            documents.put(postId, texts);
+
+            // 최대 개수 초과 : 가장 오래된 게시글부터 범위 밖으로 (posting 의 ID 는 재구축 때 정리)
+            while (documents.size() > MAX_DOCUMENTS) {
+                documents.pollFirstEntry();
+                floorId = documents.firstKey();
+            }
+        }
+
+        void delete(Long postId) {
+            String[] texts = documents.remove(postId);
+            if (texts == null) {
+                return;
+            }
+            for (Field field : Field.values()) {
+                for (String gram : grams(texts[field.ordinal()])) {
+                    Posting posting = postings.get(key(field, gram));
+                    if (posting != null) {
+                        posting.remove(postId);
+                        if (posting.size() == 0) {
+                            postings.remove(key(field, gram));
+                        }
+                    }
+                }
+            }
+        }
+
+        void trim() {
+            postings.values().forEach(Posting::trim);
+        }
+    }
+
+    // posting : 정렬된 게시글 ID 배열 (새 게시글은 대부분 끝에 추가)
+    private static final class Posting {
+
+        private long[] ids = new long[2];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        long get(int index) {
+            return ids[index];
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        // id 이하인 마지막 위치 (없으면 -1)
+        int floorIndex(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            return index >= 0 ? index : -index - 2;
+        }
+
+        void add(long id) {
+            int index = size == 0 || ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        void remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+
+        void trim() {
+            if (ids.length > size) {
+                ids = Arrays.copyOf(ids, Math.max(size, 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.project.teama_be.domain.post.service.tag;
+
+import com.project.teama_be.domain.post.entity.Tag;
+import com.project.teama_be.global.entity.TsidGenerator;
+import com.project.teama_be.global.utils.TransactionUtil;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 태그 사전 :
+ * 태그 이름 -> ID 를 메모리에 보관합니다. 서버 시작 시 전체를 적재하고, 새 태그는 커밋 이후 추가합니다.
+ * 태그는 삭제, 이름 변경이 없어 한 번 정해진 ID 가 바뀌지 않으므로 서버 간 무효화가 필요 없습니다.
+ * (다른 서버가 만든 태그는 처음 쓰일 때 DB 에서 한 번 가져옴)
+ * 없는 태그는 여러 행 upsert 한 번으로 만들고, 게시글 연동도 INSERT 한 번으로 저장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagDictionary {
+
+    // 메모리 보관 최대 태그 수 (초과분은 매번 DB 에서 확인)
+    private static final int MAX_SIZE = 200_000;
+
+    private static final String SELECT_ALL_SQL = "SELECT id, tag_name FROM tag";
+    private static final String UPSERT_SQL_PREFIX = "INSERT INTO tag (tag_name, created_at, updated_at) VALUES ";
+    private static final String UPSERT_SQL_SUFFIX = " ON DUPLICATE KEY UPDATE tag_name = tag_name";
+    // 동시에 다른 요청이 만든 태그일 수 있으므로 잠금 읽기로 조회
+    private static final String SELECT_BY_NAMES_SQL_PREFIX = "SELECT id, tag_name FROM tag WHERE tag_name IN (";
+    private static final String SELECT_BY_NAMES_SQL_SUFFIX = ") LOCK IN SHARE MODE";
+    private static final String INSERT_POST_TAG_SQL_PREFIX =
+            "INSERT INTO post_tag (id, post_id, tag_id, created_at, updated_at) VALUES ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Validator validator;
+    private final Map<String, Long> tagIds = new ConcurrentHashMap<>();
+
+    // 서버 시작 시 전체 태그 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        tagIds.clear();
+        jdbcTemplate.query(SELECT_ALL_SQL, rs -> {
+            if (tagIds.size() < MAX_SIZE) {
+                tagIds.put(rs.getString("tag_name"), rs.getLong("id"));
+            }
+        });
+        log.info("[ 태그 사전 적재 ] tagCnt:{}", tagIds.size());
+    }
+
+    /** 태그 확인 :
+     * 메모리에 없는 태그만 검증 후 upsert 한 번, 조회 한 번으로 ID 를 가져옵니다.
+     * @param tagNames 태그 이름 (중복은 하나로)
+     * @return 태그 이름 -> ID (입력 순서 유지)
+     */
+    public Map<String, Long> resolve(Collection<String> tagNames) {
+        Set<String> names = new LinkedHashSet<>(tagNames);
+        List<String> missing = names.stream()
+                .filter(name -> !tagIds.containsKey(name))
+                .toList();
+        if (missing.isEmpty()) {
+            return toOrderedMap(names, tagIds);
+        }
+
+        // 새 태그 검증 : Tag 엔티티 제약(6자 이하, 완성된 한글)
+        Set<ConstraintViolation<Tag>> violations = new HashSet<>();
+        for (String name : missing) {
+            violations.addAll(validator.validateValue(Tag.class, "tagName", name));
+        }
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        // 없는 태그 생성 + ID 조회
+        String placeholders = String.join(", ", Collections.nCopies(missing.size(), "?"));
+        jdbcTemplate.update(
+                UPSERT_SQL_PREFIX
+                        + String.join(", ", Collections.nCopies(missing.size(), "(?, NOW(6), NOW(6))"))
+                        + UPSERT_SQL_SUFFIX,
+                missing.toArray()
+        );
+        Map<String, Long> created = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                SELECT_BY_NAMES_SQL_PREFIX + placeholders + SELECT_BY_NAMES_SQL_SUFFIX,
+                rs -> {
+                    created.put(rs.getString("tag_name"), rs.getLong("id"));
+                },
+                missing.toArray()
+        );
+        log.info("[ 태그 생성 ] tagCnt:{}", missing.size());
+
+        TransactionUtil.afterCommit(() -> created.forEach((name, id) -> {
+            if (tagIds.size() < MAX_SIZE) {
+                tagIds.put(name, id);
+            }
+        }));
+
+        Map<String, Long> known = new LinkedHashMap<>(created);
+        names.stream()
+                .filter(name -> !known.containsKey(name) && tagIds.containsKey(name))
+                .forEach(name -> known.put(name, tagIds.get(name)));
+        return toOrderedMap(names, known);
+    }
+
+    /** 게시글 <-> 태그 연동 저장 : INSERT 한 번
+     *
+     * @param postId 게시글 ID
+     * @param ids 태그 ID
+     */
+    public void link(Long postId, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        List<Object> params = new ArrayList<>(ids.size() * 3);
+        for (Long tagId : ids) {
+            params.add(TsidGenerator.next());
+            params.add(postId);
+            params.add(tagId);
+        }
+        jdbcTemplate.update(
+                INSERT_POST_TAG_SQL_PREFIX
+                        + String.join(", ", Collections.nCopies(ids.size(), "(?, ?, ?, NOW(6), NOW(6))")),
+                params.toArray()
+        );
+        log.info("[ 태그 <-> 게시글 연동 저장 ] postID:{}, tagCnt:{}", postId, ids.size());
+    }
+
+    // 입력 순서대로 정리
+    private static Map<String, Long> toOrderedMap(Set<String> names, Map<String, Long> ids) {
+        Map<String, Long> ordered = new LinkedHashMap<>();
+        for (String name : names) {
+            Long id = ids.get(name);
+            if (id != null) {
+                ordered.put(name, id);
+            }
+        }
+        return ordered;
+    }
+}
@@ -0,0 +1,348 @@
+package com.project.teama_be.domain.post.service.trending;
+
+import com.project.teama_be.domain.location.entity.Location;
+import com.project.teama_be.domain.location.repository.LocationRepository;
+import com.project.teama_be.domain.post.converter.PostConverter;
+import com.project.teama_be.domain.post.dto.response.PostResDTO;
+import com.project.teama_be.global.utils.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/** 인기 게시글, 가게 랭킹 엔진 :
+ * 조회(순 방문자), 좋아요, 댓글 이벤트를 시간 감쇠 점수로 누적하고 지역별 상위 MAX_TRACKED 개만 Redis sorted set 에 보관합니다.
+ * (모든 서버가 같은 점수를 공유하고, 서버를 재시작해도 유지됨)
+ * 점수는 키별 기준 시각(landmark) 대비 e^(λ(t - landmark)) 가중치로 ZINCRBY 해 두므로(forward decay)
+ * 시간이 지나도 항목 간 순서가 바뀌지 않고, 조회 시에만 현재 시각 기준으로 환산합니다.
+ * 기준 시각이 REBASE_INTERVAL_MS 보다 오래된 키는 반영 스크립트 안에서 그 키만(최대 MAX_TRACKED 개) 다시 환산하므로
+ * Redis 를 오래 잡는 전체 보정 작업이 없습니다. 조회는 지역별 상위 목록을 SNAPSHOT_TTL_MS 동안 메모리에 두고 응답합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingEngine {
+
+    // 조회 가능한 최대 개수
+    public static final int MAX_SIZE = 50;
+    public static final String ALL_REGION = "all";
+
+    // 키별 보관 개수 : 순위 밖에서 올라오는 항목을 위해 조회 개수보다 넉넉히
+    private static final int MAX_TRACKED = MAX_SIZE * 4;
+    // 반감기 6시간
+    private static final double HALF_LIFE_MS = 6 * 60 * 60 * 1000d;
+    private static final double DECAY_RATE = Math.log(2) / HALF_LIFE_MS;
+    private static final double VIEW_WEIGHT = 1d;
+    private static final double LIKE_WEIGHT = 3d;
+    private static final double COMMENT_WEIGHT = 5d;
+    // 현재 시각 기준 이 점수 미만이면 정리
+    private static final double PRUNE_THRESHOLD = 0.01d;
+    private static final long REBASE_INTERVAL_MS = 60 * 60 * 1000L;
+    // 이벤트가 없는 지역 랭킹, 게시글 -> 가게 정보 만료 (반감기 x 8 이면 점수가 1/256 로 줄어듦)
+    private static final long RANK_TTL_SECONDS = 48 * 60 * 60L;
+    // 메모리 조회 결과, 가게 정보 보관
+    private static final long SNAPSHOT_TTL_MS = 5_000L;
+    private static final int MAX_SNAPSHOTS = 1_000;
+    private static final long PLACE_TTL_MS = 10 * 60 * 1000L;
+    private static final int MAX_PLACES = 10_000;
+
+    // 게시글별 순 방문자 (Redis HyperLogLog)
+    private static final String VIEWER_KEY_PREFIX = "trending:viewers:";
+    private static final long VIEWER_TTL_HOURS = 48L;
+
+    // 게시글 ID -> 가게 ID (RANK_TTL_SECONDS 후 만료)
+    private static final String POST_LOCATION_PREFIX = "trending:post-location:";
+    // 지역별 랭킹 : member = 게시글 ID / 가게 ID, score = 키의 기준 시각 대비 점수
+    private static final String POST_RANK_PREFIX = "trending:post:";
+    private static final String PLACE_RANK_PREFIX = "trending:place:";
+    // 랭킹 키별 기준 시각 (epoch ms) : 랭킹 키 + 접미사
+    private static final String LANDMARK_SUFFIX = ":landmark";
+
+    // KEYS : 게시글 -> 가게, (랭킹 키, 기준 시각 키) 쌍 : 게시글 지역들, 가게 지역들 (같은 개수)
+    // ARGV : 가중치, 감쇠율, 게시글 ID, 가게 ID, 보관 개수, 만료(초), 재환산 간격, 정리 기준 점수
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local rate = tonumber(ARGV[2])
+            local ttl = tonumber(ARGV[6])
+            redis.call('SET', KEYS[1], ARGV[4], 'EX', ttl)
+            local pairCnt = (#KEYS - 1) / 2
+            for j = 1, pairCnt do
+                local rank = KEYS[2 * j]
+                local landmarkKey = KEYS[2 * j + 1]
+                local member = ARGV[4]
+                if j <= pairCnt / 2 then
+                    member = ARGV[3]
+                end
+                local landmark = tonumber(redis.call('GET', landmarkKey))
+                if not landmark then
+                    landmark = now
+                    redis.call('SET', landmarkKey, string.format('%d', now))
+                elseif now - landmark >= tonumber(ARGV[7]) then
+                    redis.call('ZUNIONSTORE', rank, 1, rank, 'WEIGHTS', math.exp(-rate * (now - landmark)))
+                    redis.call('ZREMRANGEBYSCORE', rank, '-inf', '(' .. ARGV[8])
+                    landmark = now
+                    redis.call('SET', landmarkKey, string.format('%d', now))
+                end
+                redis.call('ZINCRBY', rank, tonumber(ARGV[1]) * math.exp(rate * (now - landmark)), member)
+                redis.call('ZREMRANGEBYRANK', rank, 0, -(tonumber(ARGV[5]) + 1))
+                redis.call('EXPIRE', rank, ttl)
+                redis.call('EXPIRE', landmarkKey, ttl)
+            end
+            return 1
+            """, Long.class);
+
+    // 게시글 랭킹에서 빼고, 같은 지역 가게 점수에서 게시글 점수만큼 차감 (키별 기준 시각 차이 보정)
+    // KEYS : 게시글 -> 가게, (랭킹 키, 기준 시각 키) 쌍 : 게시글 지역들, 가게 지역들 (같은 개수)
+    // ARGV : 게시글 ID, 가게 ID, 감쇠율, 정리 기준 점수
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            local rate = tonumber(ARGV[3])
+            local regionCnt = (#KEYS - 1) / 4
+            for j = 1, regionCnt do
+                local postRank = KEYS[2 * j]
+                local placeRank = KEYS[2 * (j + regionCnt)]
+                local score = redis.call('ZSCORE', postRank, ARGV[1])
+                if score then
+                    redis.call('ZREM', postRank, ARGV[1])
+                    if redis.call('ZSCORE', placeRank, ARGV[2]) then
+                        local postLandmark = tonumber(redis.call('GET', KEYS[2 * j + 1]))
+                        local placeLandmark = tonumber(redis.call('GET', KEYS[2 * (j + regionCnt) + 1]))
+                        local factor = 1
+                        if postLandmark and placeLandmark then
+                            factor = math.exp(rate * (postLandmark - placeLandmark))
+                        end
+                        local left = tonumber(redis.call('ZINCRBY', placeRank, -tonumber(score) * factor, ARGV[2]))
+                        if left < tonumber(ARGV[4]) then
+                            redis.call('ZREM', placeRank, ARGV[2])
+                        end
+                    end
+                end
+            end
+            return 1
+            """, Long.class);
+
+    // 랭킹과 기준 시각을 함께 읽음 : { 기준 시각, member, score, member, score, ... }
+    // KEYS : 랭킹 키, 기준 시각 키 / ARGV : 개수
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            local result = { redis.call('GET', KEYS[2]) or '' }
+            local entries = redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1, 'WITHSCORES')
+            for i = 1, #entries do
+                result[i + 1] = entries[i]
+            end
+            return result
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LocationRepository locationRepository;
+
+    // 랭킹 키 -> 최근 조회한 상위 목록 (SNAPSHOT_TTL_MS 동안 재사용)
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    // 가게 ID -> 가게명, 지역 (이벤트마다 DB 조회하지 않도록 PLACE_TTL_MS 동안 보관)
+    private final Map<Long, Place> places = new ConcurrentHashMap<>();
+
+    // 게시글 조회 : 처음 본 회원일 때만 반영
+    public void recordView(Long postId, Long locationId, Long memberId) {
+        if (!isNewViewer(postId, memberId)) {
+            return;
+        }
+        record(postId, locationId, VIEW_WEIGHT);
+    }
+
+    // 게시글 좋아요 (커밋 이후)
+    public void recordLike(Long postId, Long locationId) {
+        TransactionUtil.afterCommit(() -> record(postId, locationId, LIKE_WEIGHT));
+    }
+
+    // 댓글, 대댓글 작성 (커밋 이후)
+    public void recordComment(Long postId, Long locationId) {
+        TransactionUtil.afterCommit(() -> record(postId, locationId, COMMENT_WEIGHT));
+    }
+
+    // 게시글 삭제 (커밋 이후) : 게시글 랭킹에서 빼고, 가게 점수에서 게시글 점수만큼 차감
+    public void remove(Long postId) {
+        TransactionUtil.afterCommit(() -> {
+            try {
+                String locationId = stringRedisTemplate.opsForValue().get(POST_LOCATION_PREFIX + postId);
+                if (locationId == null) {
+                    return;
+                }
+                List<String> keys = keys(postId, place(Long.valueOf(locationId)).regions());
+                stringRedisTemplate.execute(REMOVE_SCRIPT, keys,
+                        postId.toString(), locationId, Double.toString(DECAY_RATE), Double.toString(PRUNE_THRESHOLD));
+            } catch (RuntimeException e) {
+                log.warn("[ 인기 랭킹 삭제 실패 ] postID:{}", postId, e);
+            }
+        });
+    }
+
+    /** 인기 게시글
+     *
+     * @param region 지역 (all, 시/도, 시/도 + 시/군/구 : 공백 무시)
+     * @param size 최대 개수 (MAX_SIZE 이하)
+     * @return 현재 시각 기준 점수 순 게시글
+     */
+    public List<PostResDTO.TrendingItem> getTrendingPosts(String region, int size) {
+        List<Entry> entries = top(POST_RANK_PREFIX, region, size);
+        if (entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> locationIds = stringRedisTemplate.opsForValue().multiGet(
+                entries.stream().map(entry -> POST_LOCATION_PREFIX + entry.id()).toList());
+
+        List<PostResDTO.TrendingItem> result = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            String value = locationIds == null ? null : locationIds.get(i);
+            Long locationId = value == null ? null : Long.valueOf(value);
+            result.add(PostConverter.toTrendingItem(
+                    entries.get(i).id(),
+                    locationId,
+                    locationId == null ? null : place(locationId).placeName(),
+                    entries.get(i).score()
+            ));
+        }
+        return result;
+    }
+
+    /** 인기 가게
+     *
+     * @param region 지역 (all, 시/도, 시/도 + 시/군/구 : 공백 무시)
+     * @param size 최대 개수 (MAX_SIZE 이하)
+     * @return 현재 시각 기준 점수 순 가게
+     */
+    public List<PostResDTO.TrendingItem> getTrendingPlaces(String region, int size) {
+        return top(PLACE_RANK_PREFIX, region, size).stream()
+                .map(entry -> PostConverter.toTrendingItem(
+                        null,
+                        entry.id(),
+                        place(entry.id()).placeName(),
+                        entry.score()
+                ))
+                .toList();
+    }
+
+    private void record(Long postId, Long locationId, double weight) {
+        List<String> keys = keys(postId, place(locationId).regions());
+        try {
+            stringRedisTemplate.execute(RECORD_SCRIPT, keys,
+                    Double.toString(weight), Double.toString(DECAY_RATE), postId.toString(), locationId.toString(),
+                    Integer.toString(MAX_TRACKED), Long.toString(RANK_TTL_SECONDS),
+                    Long.toString(REBASE_INTERVAL_MS), Double.toString(PRUNE_THRESHOLD));
+        } catch (RuntimeException e) {
+            log.warn("[ 인기 랭킹 반영 실패 ] postID:{}, locationID:{}", postId, locationId, e);
+        }
+    }
+
+    // 스크립트 키 : 게시글 -> 가게, 지역별 (게시글 랭킹, 기준 시각), 지역별 (가게 랭킹, 기준 시각)
+    private static List<String> keys(Long postId, List<String> regions) {
+        List<String> keys = new ArrayList<>();
+        keys.add(POST_LOCATION_PREFIX + postId);
+        for (String prefix : List.of(POST_RANK_PREFIX, PLACE_RANK_PREFIX)) {
+            for (String region : regions) {
+                keys.add(prefix + region);
+                keys.add(prefix + region + LANDMARK_SUFFIX);
+            }
+        }
+        return keys;
+    }
+
+    // 지역 랭킹 상위 size 개를 현재 시각 기준 점수로 환산 (메모리 목록이 없거나 오래되었을 때만 Redis 조회)
+    private List<Entry> top(String prefix, String region, int size) {
+        String key = prefix + normalize(region);
+        long now = System.currentTimeMillis();
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot == null || snapshot.loadedAt() + SNAPSHOT_TTL_MS < now) {
+            snapshot = load(key, now);
+            if (snapshots.size() >= MAX_SNAPSHOTS) {
+                snapshots.clear();
+            }
+            snapshots.put(key, snapshot);
+        }
+
+        double factor = Math.exp(-DECAY_RATE * (now - snapshot.landmark()));
+        return snapshot.entries().stream()
+                .limit(Math.min(size, MAX_SIZE))
+                .map(entry -> new Entry(entry.id(), entry.score() * factor))
+                .toList();
+    }
+
+    private Snapshot load(String key, long now) {
+        List<?> result = stringRedisTemplate.execute(READ_SCRIPT,
+                List.of(key, key + LANDMARK_SUFFIX), Integer.toString(MAX_SIZE));
+        if (result == null || result.isEmpty() || result.get(0).toString().isEmpty()) {
+            return new Snapshot(now, now, Collections.emptyList());
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 1; i + 1 < result.size(); i += 2) {
+            entries.add(new Entry(
+                    Long.valueOf(result.get(i).toString()),
+                    Double.parseDouble(result.get(i + 1).toString())));
+        }
+        return new Snapshot(now, Long.parseLong(result.get(0).toString()), entries);
+    }
+
+    // 순 방문자 여부 : HyperLogLog 추정치가 바뀌면 처음 본 회원으로 간주
+    private boolean isNewViewer(Long postId, Long memberId) {
+        try {
+            String key = VIEWER_KEY_PREFIX + postId;
+            Long changed = stringRedisTemplate.opsForHyperLogLog().add(key, memberId.toString());
+            stringRedisTemplate.expire(key, VIEWER_TTL_HOURS, TimeUnit.HOURS);
+            return changed != null && changed == 1L;
+        } catch (RuntimeException e) {
+            log.warn("[ 순 방문자 확인 실패 ] postID:{}", postId, e);
+            return false;
+        }
+    }
+
+    // 가게 정보 : PLACE_TTL_MS 가 지나면 다시 조회 (가게명 변경 반영), 최대 MAX_PLACES 개
+    private Place place(Long locationId) {
+        long now = System.currentTimeMillis();
+        Place place = places.get(locationId);
+        if (place != null && place.loadedAt() + PLACE_TTL_MS >= now) {
+            return place;
+        }
+        Location location = locationRepository.findById(locationId).orElse(null);
+        place = location == null
+                ? new Place(null, List.of(ALL_REGION), now)
+                : new Place(location.getPlaceName(), toRegions(location.getAddressName()), now);
+        if (places.size() >= MAX_PLACES) {
+            places.clear();
+        }
+        places.put(locationId, place);
+        return place;
+    }
+
+    // "서울 종로구 홍지동 7-1" -> all, 서울, 서울종로구
+    private static List<String> toRegions(String addressName) {
+        List<String> regions = new ArrayList<>();
+        regions.add(ALL_REGION);
+        if (addressName == null || addressName.isBlank()) {
+            return regions;
+        }
+        String[] tokens = addressName.trim().split("\\s+");
+        regions.add(normalize(tokens[0]));
+        if (tokens.length > 1) {
+            regions.add(normalize(tokens[0] + tokens[1]));
+        }
+        return regions;
+    }
+
+    private static String normalize(String region) {
+        return region == null ? ALL_REGION : region.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+
+    private record Place(String placeName, List<String> regions, long loadedAt) {}
+
+    private record Entry(Long id, double score) {}
+
+    // 지역 랭킹 조회 결과 : 점수는 landmark 기준
+    private record Snapshot(long loadedAt, long landmark, List<Entry> entries) {}
+}
@@ -0,0 +1,25 @@
+package com.project.teama_be.global.aws.converter;
+
+import com.project.teama_be.global.aws.dto.S3ResDTO;
+
+import java.time.LocalDateTime;
+
+public class S3Converter {
+
+    // 업로드 URL 발급 : key, URL, 서명된 파일 정보 -> ResDTO
+    public static S3ResDTO.PresignedUrl toPresignedUrl(
+            String key,
+            String uploadUrl,
+            String contentType,
+            Long contentLength,
+            LocalDateTime expiresAt
+    ){
+        return S3ResDTO.PresignedUrl.builder()
+                .key(key)
+                .uploadUrl(uploadUrl)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.teama_be.global.aws.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public class S3ReqDTO {
+
+    // 업로드할 파일 정보 (서명에 포함되어 다른 형식, 크기로는 업로드 불가)
+    public record PresignedFile(
+            @NotBlank(message = "파일 형식은 필수 입력값입니다.")
+            String contentType,
+
+            @NotNull(message = "파일 크기는 필수 입력값입니다.")
+            @Positive(message = "파일 크기는 0보다 커야 합니다.")
+            Long contentLength
+    ) {}
+}
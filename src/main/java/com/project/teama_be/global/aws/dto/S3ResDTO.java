@@ -0,0 +1,18 @@
+package com.project.teama_be.global.aws.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+public class S3ResDTO {
+
+    // 업로드 URL : 클라이언트는 uploadUrl 로 PUT 한 뒤 key 로 등록 요청
+    @Builder
+    public record PresignedUrl(
+            String key,
+            String uploadUrl,
+            String contentType,
+            Long contentLength,
+            LocalDateTime expiresAt
+    ) {}
+}
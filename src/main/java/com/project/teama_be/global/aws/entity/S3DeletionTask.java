@@ -0,0 +1,42 @@
+package com.project.teama_be.global.aws.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// S3 삭제 대기열 : 삭제할 객체 키당 한 행, S3DeletionQueue 의 SQL 로만 기록, 삭제
+@Entity
+@Immutable
+@Table(
+        name = "s3_deletion_task",
+        indexes = {
+                @Index(name = "idx_s3_deletion_task_next_attempt", columnList = "next_attempt_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class S3DeletionTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 1024)
+    private String objectKey;
+
+    @Column(name = "attempts", nullable = false)
+    @ColumnDefault("0")
+    private Integer attempts;
+
+    // 다음 시도 시각 : null 이면 재시도 한도 초과로 포기 (수동 확인 대상)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -24,7 +24,13 @@ public enum S3ErrorCode implements BaseErrorCode {
             "파일 업로드 중 오류가 발생하였습니다."),
     S3_EXCEPTION(HttpStatus.BAD_REQUEST,
             "S3400_4",
-            "S3에 파일 업로드 실패하였습니다.");
+            "S3에 파일 업로드 실패하였습니다."),
+    NOT_VALID_UPLOAD_KEY(HttpStatus.BAD_REQUEST,
+            "S3400_5",
+            "발급되지 않았거나 만료된 업로드 키입니다."),
+    NOT_UPLOADED_FILE(HttpStatus.BAD_REQUEST,
+            "S3400_6",
+            "업로드가 완료되지 않은 파일입니다.");
 
     private final HttpStatus httpStatus;
     private final String code;
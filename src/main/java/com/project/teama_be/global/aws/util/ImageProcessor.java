@@ -0,0 +1,263 @@
+package com.project.teama_be.global.aws.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+
+/** 사진 변환 :
+ * JPEG, PNG 를 한 번만 디코딩해 메타데이터(EXIF, GPS 등)를 제거한 원본과 축소본을 만듭니다.
+ * EXIF 회전 정보는 제거 전에 픽셀에 적용합니다.
+ */
+@Slf4j
+@Component
+public class ImageProcessor {
+
+    // 디코딩 허용 최대 픽셀 수 (압축 폭탄 방지, 초과 시 변환 없이 원본 그대로)
+    private static final long MAX_PIXELS = 50_000_000L;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    // 동시 디코딩 수 제한 : 디코딩된 사진 한 장이 수십 MB 라 업로드 스레드 수보다 작게 둠
+    private final Semaphore permits = new Semaphore(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+    // 축소본 종류 : 가로 길이 기준, 원본보다 크게 늘리지는 않음
+    public enum Variant {
+        THUMBNAIL(150, "_150"),
+        MEDIUM(600, "_600");
+
+        private final int width;
+        private final String suffix;
+
+        Variant(int width, String suffix) {
+            this.width = width;
+            this.suffix = suffix;
+        }
+
+        public String suffix() {
+            return suffix;
+        }
+    }
+
+    // 변환 결과 : 메타데이터 제거된 원본 + 축소본
+    public record ProcessedImage(byte[] original, Map<Variant, byte[]> variants) {}
+
+    /** 사진 변환
+     *
+     * @param source 업로드된 사진
+     * @param extension jpg, jpeg, png
+     * @return 디코딩할 수 없거나 너무 큰 사진이면 empty
+     */
+    public Optional<ProcessedImage> process(byte[] source, String extension) {
+        boolean png = extension.equals("png");
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+        try {
+            BufferedImage decoded = decode(source);
+            if (decoded == null) {
+                return Optional.empty();
+            }
+            BufferedImage original = normalize(decoded, png ? 1 : readOrientation(source), png);
+
+            Map<Variant, byte[]> variants = new EnumMap<>(Variant.class);
+            for (Variant variant : Variant.values()) {
+                variants.put(variant, encode(resize(original, variant.width), png));
+            }
+            return Optional.of(new ProcessedImage(encode(original, png), variants));
+        } catch (IOException | RuntimeException e) {
+            log.warn("[ 사진 변환 ] 변환 실패, 원본 그대로 저장 : {}", e.getMessage());
+            return Optional.empty();
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 디코딩 : 크기를 먼저 읽어 상한 초과 시 디코딩하지 않음
+    private BufferedImage decode(byte[] source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    log.warn("[ 사진 변환 ] 픽셀 수 초과 : {}x{}", reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 회전 적용 + 픽셀 형식 통일 (JPEG 는 알파 없는 RGB)
+    private static BufferedImage normalize(BufferedImage source, int orientation, boolean png) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        boolean swap = orientation >= 5 && orientation <= 8;
+
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { transform.scale(-1.0, 1.0); transform.translate(-width, 0); }
+            case 3 -> { transform.translate(width, height); transform.rotate(Math.PI); }
+            case 4 -> { transform.scale(1.0, -1.0); transform.translate(0, -height); }
+            case 5 -> { transform.rotate(-Math.PI / 2); transform.scale(-1.0, 1.0); }
+            case 6 -> { transform.translate(height, 0); transform.rotate(Math.PI / 2); }
+            case 7 -> { transform.scale(-1.0, 1.0); transform.translate(-height, 0);
+                        transform.translate(0, width); transform.rotate(3 * Math.PI / 2); }
+            case 8 -> { transform.translate(0, width); transform.rotate(3 * Math.PI / 2); }
+            default -> { }
+        }
+
+        BufferedImage result = new BufferedImage(
+                swap ? height : width,
+                swap ? width : height,
+                png ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB
+        );
+        Graphics2D graphics = result.createGraphics();
+        try {
+            if (!png) {
+                // 투명 영역이 있는 JPEG 대비 흰 배경
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, result.getWidth(), result.getHeight());
+            }
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    // 축소 : 절반씩 줄여 가며 목표 크기까지 (한 번에 줄일 때 생기는 계단 현상 방지)
+    private static BufferedImage resize(BufferedImage source, int targetWidth) {
+        if (source.getWidth() <= targetWidth) {
+            return source;
+        }
+        int targetHeight = Math.max(1, Math.round((float) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        while (width != targetWidth || height != targetHeight) {
+            width = Math.max(width / 2, targetWidth);
+            height = Math.max(height / 2, targetHeight);
+
+            BufferedImage next = new BufferedImage(width, height, source.getType());
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    // 인코딩 : 픽셀만 기록하므로 원본 메타데이터는 남지 않음
+    private static byte[] encode(BufferedImage image, boolean png) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (png) {
+            ImageIO.write(image, "png", output);
+            return output.toByteArray();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    // JPEG EXIF 회전 값 (0x0112) 읽기 : 없으면 1 (정방향)
+    private static int readOrientation(byte[] jpeg) {
+        if (jpeg.length < 4 || (jpeg[0] & 0xFF) != 0xFF || (jpeg[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int pos = 2;
+        while (pos + 4 <= jpeg.length) {
+            if ((jpeg[pos] & 0xFF) != 0xFF) {
+                return 1;
+            }
+            int marker = jpeg[pos + 1] & 0xFF;
+            // 이미지 데이터 시작 이후에는 EXIF 없음
+            if (marker == 0xDA || marker == 0xD9) {
+                return 1;
+            }
+            int length = readShort(jpeg, pos + 2, false);
+            if (marker == 0xE1 && length >= 8 && pos + 10 <= jpeg.length
+                    && jpeg[pos + 4] == 'E' && jpeg[pos + 5] == 'x' && jpeg[pos + 6] == 'i' && jpeg[pos + 7] == 'f') {
+                return readTiffOrientation(jpeg, pos + 10, Math.min(jpeg.length, pos + 2 + length));
+            }
+            pos += 2 + length;
+        }
+        return 1;
+    }
+
+    // TIFF 헤더 + 첫 번째 IFD 에서 회전 값 탐색
+    private static int readTiffOrientation(byte[] data, int start, int end) {
+        if (start + 8 > end) {
+            return 1;
+        }
+        boolean little = data[start] == 'I';
+        int ifd = start + readInt(data, start + 4, little);
+        if (ifd < start || ifd + 2 > end) {
+            return 1;
+        }
+        int count = readShort(data, ifd, little);
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (readShort(data, entry, little) == 0x0112) {
+                int orientation = readShort(data, entry + 8, little);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] data, int pos, boolean little) {
+        int b0 = data[pos] & 0xFF;
+        int b1 = data[pos + 1] & 0xFF;
+        return little ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static int readInt(byte[] data, int pos, boolean little) {
+        int high = readShort(data, little ? pos + 2 : pos, little);
+        int low = readShort(data, little ? pos : pos + 2, little);
+        return (high << 16) | low;
+    }
+}
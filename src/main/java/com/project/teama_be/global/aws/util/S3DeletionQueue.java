@@ -0,0 +1,155 @@
+package com.project.teama_be.global.aws.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/** S3 삭제 대기열 :
+ * 삭제할 객체 키를 s3_deletion_task 테이블에 요청 트랜잭션과 함께 기록하고(롤백되면 삭제도 취소),
+ * 백그라운드에서 DeleteObjects 로 최대 1000개씩 모아 삭제합니다.
+ * 실패한 키는 지수 백오프로 재시도하고, 한도를 넘기면 next_attempt_at 을 비워 포기합니다.
+ * 같은 키를 두 번 지워도 문제없으므로 서버가 여러 대여도 잠금 없이 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3DeletionQueue {
+
+    // DeleteObjects 한 번에 보낼 수 있는 최대 키 수
+    private static final int BATCH_SIZE = 1000;
+    // 한 번 실행에 처리할 최대 배치 수
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long BASE_BACKOFF_SECONDS = 30L;
+    private static final long MAX_BACKOFF_SECONDS = 3_600L;
+    private static final long DRAIN_INTERVAL_MS = 5_000L;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO s3_deletion_task (object_key, attempts, next_attempt_at, created_at) VALUES (?, 0, ?, ?)";
+    private static final String SELECT_SQL = """
+            SELECT id, object_key, attempts FROM s3_deletion_task
+             WHERE next_attempt_at <= ?
+             ORDER BY next_attempt_at, id
+             LIMIT ?
+            """;
+    private static final String DELETE_SQL = "DELETE FROM s3_deletion_task WHERE id = ?";
+    private static final String RETRY_SQL =
+            "UPDATE s3_deletion_task SET attempts = ?, next_attempt_at = ? WHERE id = ?";
+    private static final String BACKLOG_SQL =
+            "SELECT COUNT(*) FROM s3_deletion_task WHERE next_attempt_at IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final S3Util s3Util;
+
+    // 지표 (1분마다 기록 후 초기화)
+    private final LongAdder deletedCount = new LongAdder();
+    private final LongAdder retriedCount = new LongAdder();
+    private final LongAdder abandonedCount = new LongAdder();
+
+    private record Task(Long id, String objectKey, int attempts) {}
+
+    /** 삭제 예약 :
+     * 현재 트랜잭션에 함께 기록합니다. 축소본 키도 함께 예약합니다.
+     * @param urls DB에 저장되어 있는 URL 또는 S3 키
+     */
+    public void enqueue(Collection<String> urls) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = urls.stream()
+                .filter(Objects::nonNull)
+                .flatMap(url -> s3Util.toObjectKeys(url).stream())
+                .map(key -> new Object[]{key, now, now})
+                .toList();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        log.info("[ S3 삭제 예약 ] urlCnt:{}, keyCnt:{}", urls.size(), batch.size());
+    }
+
+    @Scheduled(fixedDelay = DRAIN_INTERVAL_MS)
+    public void drain() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Task> tasks = jdbcTemplate.query(
+                    SELECT_SQL,
+                    (rs, rowNum) -> new Task(rs.getLong("id"), rs.getString("object_key"), rs.getInt("attempts")),
+                    Timestamp.valueOf(now),
+                    BATCH_SIZE
+            );
+            if (tasks.isEmpty()) {
+                return;
+            }
+
+            // 일괄 삭제 : 요청 자체가 실패하면 전부 재시도
+            Set<String> failedKeys;
+            try {
+                failedKeys = s3Util.deleteObjects(tasks.stream().map(Task::objectKey).distinct().toList());
+            } catch (SdkException e) {
+                log.error("[ S3 삭제 ] 일괄 삭제 요청 실패 taskCnt:{}, message:{}", tasks.size(), e.getMessage());
+                failedKeys = new HashSet<>();
+                for (Task task : tasks) {
+                    failedKeys.add(task.objectKey());
+                }
+            }
+
+            // 성공한 작업 제거, 실패한 작업은 다음 시도 시각 지정
+            List<Object[]> done = new ArrayList<>();
+            List<Object[]> retry = new ArrayList<>();
+            for (Task task : tasks) {
+                if (!failedKeys.contains(task.objectKey())) {
+                    done.add(new Object[]{task.id()});
+                    continue;
+                }
+                int attempts = task.attempts() + 1;
+                if (attempts >= MAX_ATTEMPTS) {
+                    log.error("[ S3 삭제 ] 재시도 한도 초과로 포기 taskID:{}, key:{}", task.id(), task.objectKey());
+                    abandonedCount.increment();
+                    retry.add(new Object[]{attempts, null, task.id()});
+                } else {
+                    retriedCount.increment();
+                    retry.add(new Object[]{attempts, Timestamp.valueOf(now.plusSeconds(backoffSeconds(attempts))), task.id()});
+                }
+            }
+            if (!done.isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE_SQL, done);
+                deletedCount.add(done.size());
+            }
+            if (!retry.isEmpty()) {
+                jdbcTemplate.batchUpdate(RETRY_SQL, retry);
+            }
+
+            // 남은 작업이 없거나 S3 장애 중이면 다음 실행으로
+            if (tasks.size() < BATCH_SIZE || retry.size() == tasks.size()) {
+                return;
+            }
+        }
+    }
+
+    // 지표 기록 : 1분 간격
+    @Scheduled(fixedRate = 60_000L)
+    public void logStats() {
+        long deleted = deletedCount.sumThenReset();
+        long retried = retriedCount.sumThenReset();
+        long abandoned = abandonedCount.sumThenReset();
+        if (deleted + retried + abandoned == 0) {
+            return;
+        }
+        Long backlog = jdbcTemplate.queryForObject(BACKLOG_SQL, Long.class);
+        log.info("[ S3 삭제 대기열 ] deleted:{}, retried:{}, abandoned:{}, backlog:{}",
+                deleted, retried, abandoned, backlog);
+    }
+
+    // 재시도 간격 : 30초부터 두 배씩, 최대 1시간
+    private static long backoffSeconds(int attempts) {
+        return Math.min(MAX_BACKOFF_SECONDS, BASE_BACKOFF_SECONDS << Math.min(attempts - 1, 20));
+    }
+}
@@ -0,0 +1,199 @@
+package com.project.teama_be.global.aws.util;
+
+import com.project.teama_be.global.aws.converter.S3Converter;
+import com.project.teama_be.global.aws.dto.S3ReqDTO;
+import com.project.teama_be.global.aws.dto.S3ResDTO;
+import com.project.teama_be.global.aws.exception.S3Exception;
+import com.project.teama_be.global.aws.exception.code.S3ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/** S3 직접 업로드 :
+ * 서버는 형식, 크기가 서명된 PUT URL 만 발급하고 사진은 클라이언트가 S3 로 바로 올립니다.
+ * 발급한 키는 Redis sorted set (member = 회원ID|키, score = 만료 시각)에 보관하고,
+ * 등록 시 한 번만 사용할 수 있게 꺼낸 뒤 HEAD 로 업로드 여부를 확인합니다.
+ * 만료될 때까지 등록되지 않은 파일은 주기적으로 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3PresignUtil {
+
+    // 업로드 URL 유효 시간
+    private static final Duration EXPIRATION = Duration.ofMinutes(10);
+    // 업로드 URL 만료 후 등록까지 허용하는 여유 시간 (느린 업로드 대비)
+    private static final Duration CLAIM_GRACE = Duration.ofMinutes(5);
+    private static final String PENDING_KEY = "s3-presigned:pending";
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png"
+    );
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3Util s3Util;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${spring.servlet.multipart.max-file-size}")
+    private String maxFileSize;
+
+    /** 업로드 URL 발급
+     *
+     * @param memberId 업로드하는 회원 (등록 시 같은 회원만 사용 가능)
+     * @param file 파일 형식, 크기
+     * @param folderName 폴더명 ex) post/
+     * @return 업로드 URL, 키
+     */
+    public S3ResDTO.PresignedUrl issue(Long memberId, S3ReqDTO.PresignedFile file, String folderName) {
+
+        // 형식, 크기 검증
+        String extension = EXTENSIONS.get(file.contentType());
+        if (extension == null) {
+            log.warn("[ 업로드 URL 발급 ] 사진이 아닙니다. contentType:{}", file.contentType());
+            throw new S3Exception(S3ErrorCode.NOT_IMAGE_FILE);
+        }
+        if (file.contentLength() > Long.parseLong(maxFileSize)) {
+            log.warn("[ 업로드 URL 발급 ] 파일 크기가 제한 크기를 초과하였습니다.");
+            throw new S3Exception(S3ErrorCode.FILE_SIZE_OVER);
+        }
+
+        String key = folderName + UUID.randomUUID() + "." + extension;
+        Instant expiresAt = Instant.now().plus(EXPIRATION);
+
+        try {
+            // 형식, 크기를 서명에 포함 : 다른 값으로 PUT 하면 S3 가 거부
+            PutObjectRequest uploadRequest = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(file.contentType())
+                    .contentLength(file.contentLength())
+                    .build();
+            String uploadUrl = s3Presigner.presignPutObject(
+                    PutObjectPresignRequest.builder()
+                            .signatureDuration(EXPIRATION)
+                            .putObjectRequest(uploadRequest)
+                            .build()
+            ).url().toString();
+
+            stringRedisTemplate.opsForZSet().add(
+                    PENDING_KEY,
+                    member(memberId, key),
+                    expiresAt.plus(CLAIM_GRACE).toEpochMilli()
+            );
+
+            log.info("[ 업로드 URL 발급 ] memberID:{}, key:{}", memberId, key);
+            return S3Converter.toPresignedUrl(
+                    key,
+                    uploadUrl,
+                    file.contentType(),
+                    file.contentLength(),
+                    LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())
+            );
+        } catch (SdkException e) {
+            log.error("[ 업로드 URL 발급 ] 서명 중 오류 발생: {}", e.getMessage());
+            throw new S3Exception(S3ErrorCode.S3_EXCEPTION);
+        }
+    }
+
+    /** 업로드 완료 확인 :
+     * 발급받은 회원의 키인지 확인하고(한 번만 사용 가능), HEAD 로 실제 업로드 여부, 형식, 크기를 검증합니다.
+     * @param memberId 등록하는 회원
+     * @param key 발급받은 키
+     * @return 사진 URL
+     */
+    public String claim(Long memberId, String key) {
+
+        // 발급 여부, 만료 확인 (꺼내기는 업로드 확인 후 : 확인에 실패하면 키를 다시 쓸 수 있고 미등록 파일은 sweep 이 정리)
+        String member = member(memberId, key);
+        Double deadline = stringRedisTemplate.opsForZSet().score(PENDING_KEY, member);
+        if (deadline == null || deadline < System.currentTimeMillis()) {
+            log.warn("[ 업로드 확인 ] 발급되지 않았거나 만료된 키 memberID:{}, key:{}", memberId, key);
+            throw new S3Exception(S3ErrorCode.NOT_VALID_UPLOAD_KEY);
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(
+                    HeadObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .build()
+            );
+        } catch (NoSuchKeyException e) {
+            log.warn("[ 업로드 확인 ] 업로드되지 않은 파일 key:{}", key);
+            throw new S3Exception(S3ErrorCode.NOT_UPLOADED_FILE);
+        } catch (SdkException e) {
+            log.error("[ 업로드 확인 ] HEAD 요청 중 오류 발생: {}", e.getMessage());
+            throw new S3Exception(S3ErrorCode.S3_EXCEPTION);
+        }
+
+        // 꺼내기 : 동시에 같은 키로 등록 요청이 와도 한 번만 성공
+        Long removed = stringRedisTemplate.opsForZSet().remove(PENDING_KEY, member);
+        if (removed == null || removed == 0L) {
+            throw new S3Exception(S3ErrorCode.NOT_VALID_UPLOAD_KEY);
+        }
+
+        // 서명으로 막히지만 한 번 더 확인 : 형식, 크기가 다르면 삭제
+        if (!EXTENSIONS.containsKey(head.contentType())
+                || head.contentLength() > Long.parseLong(maxFileSize)) {
+            log.warn("[ 업로드 확인 ] 허용되지 않은 파일 key:{}, contentType:{}, size:{}",
+                    key, head.contentType(), head.contentLength());
+            s3DeletionQueue.enqueue(List.of(key));
+            throw new S3Exception(S3ErrorCode.NOT_IMAGE_FILE);
+        }
+
+        log.info("[ 업로드 확인 ] memberID:{}, key:{}", memberId, key);
+        return s3Util.getImageUrl(key);
+    }
+
+    // 만료된 미등록 파일 삭제 : 10분 간격
+    @Scheduled(fixedDelay = 600_000)
+    public void sweep() {
+        Set<String> expired = stringRedisTemplate.opsForZSet()
+                .rangeByScore(PENDING_KEY, 0, System.currentTimeMillis());
+        if (expired == null || expired.isEmpty()) {
+            return;
+        }
+
+        List<String> expiredKeys = new ArrayList<>();
+        for (String member : expired) {
+            // 삭제 직전에 등록되었으면 이미 빠져 있으므로 건너뜀
+            Long removed = stringRedisTemplate.opsForZSet().remove(PENDING_KEY, member);
+            if (removed != null && removed > 0L) {
+                expiredKeys.add(member.substring(member.indexOf('|') + 1));
+            }
+        }
+        s3DeletionQueue.enqueue(expiredKeys);
+        log.info("[ 미등록 업로드 정리 ] expiredCnt:{}", expired.size());
+    }
+
+    private static String member(Long memberId, String key) {
+        return memberId + "|" + key;
+    }
+}
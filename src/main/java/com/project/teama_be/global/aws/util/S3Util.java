@@ -2,21 +2,37 @@ package com.project.teama_be.global.aws.util;
 
 import com.project.teama_be.global.aws.exception.S3Exception;
 import com.project.teama_be.global.aws.exception.code.S3ErrorCode;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
 @Component
@@ -24,6 +40,7 @@ import java.util.UUID;
 public class S3Util {
 
     private final S3Client s3Client;
+    private final ImageProcessor imageProcessor;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
@@ -32,62 +49,209 @@ public class S3Util {
     private String maxFileSize;
 
     private static final String PREFIX = "https://s3.ap-northeast-2.amazonaws.com/api-smp.shop";
+    // 동시 업로드 스레드 수 : S3 커넥션 풀(기본 50)과 요청 스레드 수를 고려한 상한
+    private static final int UPLOAD_THREADS = 16;
 
-    /** 사진 S3 업로드
-     *
+    private final ExecutorService uploadExecutor = Executors.newFixedThreadPool(UPLOAD_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "s3-upload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 업로드된 사진 URL : 원본, 썸네일(150px), 중간 크기(600px)
+    // 변환할 수 없는 사진이면 축소본 URL 은 원본 URL 과 같고, 아직 만들지 않았으면 null (백필 대상)
+    public record UploadedImage(
+            String originalUrl,
+            String thumbnailUrl,
+            String mediumUrl
+    ) {}
+
+    // 저장 결과 (S3 키, 축소본 생성 여부)
+    private record StoredImage(String key, boolean hasVariants) {}
+
+    /** 사진 S3 업로드 :
+     * 크기, 확장자를 먼저 모두 검사한 뒤 제한된 스레드 풀에서 동시에 업로드합니다.
+     * 하나라도 실패하면 이미 올라간 사진은 삭제하고 예외를 던집니다.
      * @param image 업로드할 파일
      * @param folderName 폴더명 ex) test/
-     * @return 업로드 성공시 파일 경로 반환
+     * @return 업로드 성공시 원본, 축소본 URL 반환 (요청 순서 유지)
      */
-    public List<String> uploadFile(List<MultipartFile> image, String folderName) {
-        List<String> imageUrls = new ArrayList<>();
+    public List<UploadedImage> uploadImages(List<MultipartFile> image, String folderName) {
+
+        // 업로드 전 검증 : 잘못된 파일이 섞여 있으면 아무것도 올리지 않음
         for (MultipartFile file : image) {
             if (file.getSize() > Long.parseLong(maxFileSize)) {
                 log.warn("[ 사진 업로드 ] 파일 크기가 제한 크기를 초과하였습니다.");
                 throw new S3Exception(S3ErrorCode.FILE_SIZE_OVER);
             }
-            String fileName = uploadFile(file, folderName);
-            imageUrls.add(getImageUrl(fileName));
+            getExtension(file);
+        }
+
+        // 동시 업로드
+        List<CompletableFuture<UploadedImage>> futures = image.stream()
+                .map(file -> CompletableFuture.supplyAsync(
+                        () -> toUploadedImage(store(file, folderName)), uploadExecutor))
+                .toList();
+
+        // 전부 끝날 때까지 대기 (실패가 있어도 나머지 결과를 모아 정리)
+        List<UploadedImage> uploadedImages = new ArrayList<>();
+        RuntimeException failure = null;
+        for (CompletableFuture<UploadedImage> future : futures) {
+            try {
+                uploadedImages.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ?
+                            cause : new S3Exception(S3ErrorCode.S3_EXCEPTION);
+                }
+            }
+        }
+
+        // 일부 실패 : 성공한 사진 삭제 후 예외
+        if (failure != null) {
+            log.warn("[ 사진 업로드 ] 일부 업로드 실패, 업로드된 사진 정리 : uploadedCnt:{}", uploadedImages.size());
+            deleteFiles(uploadedImages.stream().map(UploadedImage::originalUrl).toList());
+            throw failure;
+        }
+        return uploadedImages;
+    }
+
+    /** 보상 삭제 :
+     * 업로드 이후 단계가 실패했을 때 올라간 사진을 지웁니다. 삭제 실패는 기록만 하고 넘어갑니다.
+     * @param urls 삭제할 원본 URL 목록 (축소본은 함께 삭제)
+     */
+    public void deleteFiles(List<String> urls) {
+        for (String url : urls) {
+            try {
+                deleteFile(url);
+            } catch (RuntimeException e) {
+                log.error("[ 사진 삭제 ] 보상 삭제 실패 url:{}, message:{}", url, e.getMessage());
+            }
         }
-        return imageUrls;
+    }
 
+    // 종료 시 업로드 스레드 정리
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
     }
 
-    // 사진 S3 업로드 로직
+    // 사진 S3 업로드 로직 : 메타데이터 제거된 원본 + 축소본 저장, 원본 키 반환
     public String uploadFile(MultipartFile image, String folderName) {
+        return store(image, folderName).key();
+    }
+
+    /** 기존 사진 축소본 생성 :
+     * 축소본 없이 저장된 사진(직접 업로드한 사진 포함)을 내려받아 축소본을 저장하고,
+     * 원본도 메타데이터(EXIF, GPS 등)를 제거한 사진으로 덮어씁니다.
+     * @param originalUrl DB에 저장되어 있는 원본 URL
+     * @return 원본, 축소본 URL (원본이 없거나 변환할 수 없으면 모두 원본 URL)
+     * @throws SdkException 일시적인 S3 오류 (다음 실행에서 다시 시도)
+     */
+    public UploadedImage createVariants(String originalUrl) {
+
+        String key = toKey(originalUrl);
+        String fileExtension = key.substring(key.lastIndexOf(".") + 1).toLowerCase();
+
+        try {
+            byte[] source = s3Client.getObjectAsBytes(
+                    GetObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .build()
+            ).asByteArray();
+
+            Optional<ImageProcessor.ProcessedImage> processed = imageProcessor.process(source, fileExtension);
+            if (processed.isEmpty()) {
+                return new UploadedImage(originalUrl, originalUrl, originalUrl);
+            }
+            processed.get().variants().forEach((variant, bytes) ->
+                    putObject(variantKey(key, variant), bytes, fileExtension));
+            // 원본은 마지막에 교체 (중간에 실패하면 다음 실행에서 처음부터 다시 처리)
+            putObject(key, processed.get().original(), fileExtension);
+
+            log.info("[ 사진 축소본 생성 ] key:{}", key);
+            return toUploadedImage(originalUrl, key);
+        } catch (NoSuchKeyException e) {
+            log.warn("[ 사진 축소본 생성 ] 원본이 존재하지 않습니다. key:{}", key);
+            return new UploadedImage(originalUrl, originalUrl, originalUrl);
+        }
+    }
+
+    // 변환 후 원본, 축소본 저장
+    private StoredImage store(MultipartFile image, String folderName) {
 
         // 랜덤 파일명 생성
         String fileName = UUID.randomUUID().toString();
         // 파일 확장자 추출
         String fileExtension = getExtension(image);
+        String key = folderName + fileName + "." + fileExtension;
 
         log.info("[ 사진 업로드 ] 단일 사진 업로드 시작 : {}.{}", fileName, fileExtension);
 
         try {
-            // 파일 업로드 요청
-            PutObjectRequest uploadRequest = PutObjectRequest.builder()
-                            .bucket(bucket)
-                            .key(folderName + fileName + "." + fileExtension)
-                            .contentType("image/" + fileExtension)
-                            .contentLength(image.getSize())
-                            .contentDisposition("inline")
-                            .build();
-
-            s3Client.putObject(
-                    uploadRequest,
-                    RequestBody.fromInputStream(image.getInputStream(), image.getSize())
-            );
-            log.info("[ 사진 업로드 ] 단일 사진 업로드 성공");
-            return folderName + fileName + "." + fileExtension;
+            // 한 번만 디코딩해 메타데이터 제거 + 축소본 생성 (실패 시 원본 그대로 저장)
+            byte[] source = image.getBytes();
+            Optional<ImageProcessor.ProcessedImage> processed = imageProcessor.process(source, fileExtension);
+
+            putObject(key, processed.map(ImageProcessor.ProcessedImage::original).orElse(source), fileExtension);
+            processed.ifPresent(result -> result.variants().forEach((variant, bytes) ->
+                    putObject(variantKey(key, variant), bytes, fileExtension)));
+
+            log.info("[ 사진 업로드 ] 단일 사진 업로드 성공 : hasVariants:{}", processed.isPresent());
+            return new StoredImage(key, processed.isPresent());
         } catch (IOException e) {
             log.error("[ 사진 업로드 ] 단일 사진 업로드 중 IOException 발생: {}", e.getMessage());
             throw new S3Exception(S3ErrorCode.IO_EXCEPTION);
-        } catch (S3Exception e) {
+        } catch (SdkException e) {
             log.error("[ 사진 업로드 ] 단일 사진 업로드 중 S3Exception 발생: {}", e.getMessage());
+            // 축소본 저장 중 실패했다면 먼저 올라간 원본 정리
+            deleteFiles(List.of(key));
             throw new S3Exception(S3ErrorCode.S3_EXCEPTION);
         }
     }
 
+    // 파일 업로드 요청
+    private void putObject(String key, byte[] bytes, String fileExtension) {
+        PutObjectRequest uploadRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType("image/" + fileExtension)
+                .contentLength((long) bytes.length)
+                .contentDisposition("inline")
+                .build();
+
+        s3Client.putObject(uploadRequest, RequestBody.fromBytes(bytes));
+    }
+
+    private UploadedImage toUploadedImage(StoredImage storedImage) {
+        String originalUrl = getImageUrl(storedImage.key());
+        if (!storedImage.hasVariants()) {
+            return new UploadedImage(originalUrl, originalUrl, originalUrl);
+        }
+        return toUploadedImage(originalUrl, storedImage.key());
+    }
+
+    private UploadedImage toUploadedImage(String originalUrl, String key) {
+        return new UploadedImage(
+                originalUrl,
+                getImageUrl(variantKey(key, ImageProcessor.Variant.THUMBNAIL)),
+                getImageUrl(variantKey(key, ImageProcessor.Variant.MEDIUM))
+        );
+    }
+
+    // 축소본 키 : 원본 키 확장자 앞에 접미사 ex) post/uuid.jpg -> post/uuid_150.jpg
+    private static String variantKey(String key, ImageProcessor.Variant variant) {
+        int dot = key.lastIndexOf(".");
+        return dot < 0 ? key + variant.suffix() : key.substring(0, dot) + variant.suffix() + key.substring(dot);
+    }
+
+    // URL -> S3 키 (접두사와 앞쪽 '/' 제거)
+    private static String toKey(String urlOrKey) {
+        String key = urlOrKey.replace(PREFIX, "");
+        return key.startsWith("/") ? key.substring(1) : key;
+    }
+
     /** 사진 URL 조회
      *
      * @param key 조회할 사진 경로명 ex)../test/123456789.jpg
@@ -120,24 +284,67 @@ public class S3Util {
 
         try {
             // 접두사 제거
-            key = key.replace(PREFIX, "");
+            key = toKey(key);
 
             log.info("[ 사진 삭제 ] key:{}", key);
-            // URL 요청
-            s3Client.deleteObject(
-                    DeleteObjectRequest.builder()
-                            .bucket(bucket)
-                            .key(key)
-                            .build()
-            );
-            log.info("[ 사진 삭제 ] OriginUrl:{}", PREFIX+key);
-            return PREFIX+key;
-        } catch (S3Exception e) {
+            // URL 요청 : 원본 + 축소본 (축소본이 없으면 S3 가 무시)
+            for (String eachKey : toObjectKeys(key)) {
+                s3Client.deleteObject(
+                        DeleteObjectRequest.builder()
+                                .bucket(bucket)
+                                .key(eachKey)
+                                .build()
+                );
+            }
+            log.info("[ 사진 삭제 ] OriginUrl:{}", PREFIX+"/"+key);
+            return PREFIX+"/"+key;
+        } catch (SdkException e) {
             log.error("[ 사진 삭제 ] 단일 사진 삭제 중 S3Exception 발생: {}", e.getMessage());
             throw new S3Exception(S3ErrorCode.S3_EXCEPTION);
         }
     }
 
+    /** 여러 파일 삭제 :
+     * DeleteObjects 한 번으로 최대 1000개까지 삭제합니다.
+     * @param keys 삭제할 S3 키 (최대 1000개)
+     * @return 삭제하지 못한 키
+     * @throws SdkException 요청 자체가 실패한 경우
+     */
+    public Set<String> deleteObjects(List<String> keys) {
+
+        DeleteObjectsResponse response = s3Client.deleteObjects(
+                DeleteObjectsRequest.builder()
+                        .bucket(bucket)
+                        .delete(Delete.builder()
+                                .objects(keys.stream()
+                                        .map(key -> ObjectIdentifier.builder().key(key).build())
+                                        .toList())
+                                // 실패한 키만 응답
+                                .quiet(true)
+                                .build())
+                        .build()
+        );
+
+        Set<String> failedKeys = new HashSet<>();
+        for (S3Error error : response.errors()) {
+            log.warn("[ 사진 일괄 삭제 ] 삭제 실패 key:{}, code:{}", error.key(), error.code());
+            failedKeys.add(error.key());
+        }
+        log.info("[ 사진 일괄 삭제 ] requestCnt:{}, failedCnt:{}", keys.size(), failedKeys.size());
+        return failedKeys;
+    }
+
+    // URL -> 삭제할 S3 키 목록 (원본 + 축소본)
+    public List<String> toObjectKeys(String urlOrKey) {
+        String key = toKey(urlOrKey);
+        List<String> keys = new ArrayList<>();
+        keys.add(key);
+        for (ImageProcessor.Variant variant : ImageProcessor.Variant.values()) {
+            keys.add(variantKey(key, variant));
+        }
+        return keys;
+    }
+
     // 파일 확장자 추출
     private String getExtension(MultipartFile file) {
 
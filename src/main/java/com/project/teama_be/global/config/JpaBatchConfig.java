@@ -0,0 +1,41 @@
+package com.project.teama_be.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** JDBC 배치 설정 :
+ * 시간순 ID(@Tsid) 엔티티는 INSERT 를 모아 보낼 수 있으므로 Hibernate 배치와 MySQL 배치 재작성을 켭니다.
+ * application.yml 에 같은 설정이 있으면 그 값을 우선합니다.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    // 배치를 여러 행 INSERT 한 문장으로 전송 (커넥션 풀이 연결을 만들기 전에 지정)
+    @Bean
+    public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.getDataSourceProperties().putIfAbsent("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
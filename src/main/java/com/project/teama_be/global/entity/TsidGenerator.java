@@ -0,0 +1,91 @@
+package com.project.teama_be.global.entity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Set;
+
+/** 시간순 ID 생성기 :
+ * [ 41비트 밀리초 (2025-01-01 기준, 약 69년) | 6비트 노드 | 6비트 순번 ] = 53비트
+ * 중앙 시퀀스 없이 서버마다 노드 ID 로 구분하고, 같은 밀리초에는 노드당 64개까지 만듭니다.
+ * JS Number 로 정확히 표현되는 범위(2^53) 안이라 API 응답의 ID, 커서를 그대로 쓸 수 있습니다.
+ * 기존 AUTO_INCREMENT 값보다 항상 크므로 ID 순 정렬, 커서 조회도 그대로 유지됩니다.
+ * 노드 ID 는 환경변수 ID_NODE (0~63) 로 서버마다 다르게 지정합니다. (무작위로 정하면 두 대만 있어도 1/64 확률로 ID 충돌)
+ * 지정하지 않으면 로컬, 테스트 프로필(또는 프로필 미지정)에서만 무작위로 정하고, 그 외 프로필에서는 시작을 막습니다.
+ * 배포(docker 프로필)는 .github/workflows/cicd.yml 의 docker run 에서 ID_NODE 를 넘깁니다. (README 배포 환경변수 참고)
+ */
+@Slf4j
+public class TsidGenerator implements IdentifierGenerator {
+
+    private static final long EPOCH = 1_735_689_600_000L;
+    private static final int NODE_BITS = 6;
+    private static final int SEQUENCE_BITS = 6;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    // ID_NODE 없이 무작위 노드를 허용하는 프로필 (한 대로만 실행)
+    private static final Set<String> LOCAL_PROFILES = Set.of("default", "local", "test");
+    private static final long NODE = resolveNode();
+
+    private static long lastTimestamp = -1L;
+    private static long sequence = 0L;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return next();
+    }
+
+    /** ID 생성 : JDBC 로 직접 INSERT 하는 곳에서도 사용
+     *
+     * @return 이 서버에서 단조 증가하는 ID
+     */
+    public static synchronized long next() {
+        long now = System.currentTimeMillis() - EPOCH;
+
+        // 시계가 뒤로 가면 마지막 시각 기준으로 계속
+        if (now < lastTimestamp) {
+            now = lastTimestamp;
+        }
+        if (now == lastTimestamp) {
+            // 같은 밀리초 순번 소진 : 다음 밀리초까지 대기
+            if (++sequence > MAX_SEQUENCE) {
+                while ((now = System.currentTimeMillis() - EPOCH) <= lastTimestamp) {
+                    Thread.onSpinWait();
+                }
+                sequence = 0L;
+            }
+        } else {
+            sequence = 0L;
+        }
+        lastTimestamp = now;
+
+        return (now << (NODE_BITS + SEQUENCE_BITS)) | (NODE << SEQUENCE_BITS) | sequence;
+    }
+
+    private static long resolveNode() {
+        String configured = System.getenv("ID_NODE");
+        if (configured != null && !configured.isBlank()) {
+            long node = Long.parseLong(configured.strip());
+            if (node < 0 || node > MAX_NODE) {
+                throw new IllegalStateException("ID_NODE 는 0~" + MAX_NODE + " 사이여야 합니다: " + node);
+            }
+            log.info("[ ID 생성기 ] node:{}", node);
+            return node;
+        }
+
+        // Spring 설정보다 먼저 초기화될 수 있으므로 시스템 속성, 환경변수에서 직접 확인
+        String profiles = System.getProperty("spring.profiles.active", System.getenv("SPRING_PROFILES_ACTIVE"));
+        boolean local = profiles == null || profiles.isBlank()
+                || Arrays.stream(profiles.split(",")).map(String::strip).allMatch(LOCAL_PROFILES::contains);
+        if (!local) {
+            throw new IllegalStateException(
+                    "ID_NODE 가 지정되지 않았습니다. 서버마다 다른 값(0~" + MAX_NODE + ")이 필요합니다. profiles:" + profiles);
+        }
+
+        long node = new SecureRandom().nextInt((int) MAX_NODE + 1);
+        log.warn("[ ID 생성기 ] ID_NODE 미지정, 로컬 프로필이므로 무작위 노드 사용 node:{}, profiles:{}", node, profiles);
+        return node;
+    }
+}
@@ -10,6 +10,8 @@ import com.project.teama_be.global.security.filter.CustomLoginFilter;
 import com.project.teama_be.global.security.filter.JwtAuthorizationFilter;
 import com.project.teama_be.global.security.handler.CustomLogoutHandler;
 import com.project.teama_be.global.security.util.JwtUtil;
+import com.project.teama_be.global.security.util.TokenBlacklist;
+import com.project.teama_be.global.security.util.TokenRevocationStore;
 import com.project.teama_be.global.utils.HttpResponseUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -42,6 +44,8 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtTokenService jwtTokenService;
     private final SendBirdService sendBirdService;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final TokenBlacklist tokenBlacklist;
 
     //인증이 필요하지 않은 url
     private final String[] allowedUrls = {
@@ -128,7 +132,7 @@ public class SecurityConfig {
                 .addFilterAt(customLoginFilter, UsernamePasswordAuthenticationFilter.class);
         // JwtFilter를 CustomLoginFilter 앞에서 동작하도록 필터 체인에 추가
         http
-                .addFilterBefore(new JwtAuthorizationFilter(jwtUtil, memberRepository), CustomLoginFilter.class);
+                .addFilterBefore(new JwtAuthorizationFilter(jwtUtil, memberRepository, tokenRevocationStore, tokenBlacklist), CustomLoginFilter.class);
 
         // Logout Handler 추가
         http
@@ -15,6 +15,7 @@ public enum SecurityErrorCode implements BaseErrorCode {
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "SEC401_0", "인증되지 않은 회원입니다."),
     TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "SEC401_1", "토큰이 만료되었습니다."),
     BAD_CREDENTIALS(HttpStatus.UNAUTHORIZED, "SEC401_2", "잘못된 인증 정보입니다."),
+    REVOKED_TOKEN(HttpStatus.UNAUTHORIZED, "SEC401_3", "폐기된 토큰입니다. 다시 로그인해주세요."),
 
     FORBIDDEN(HttpStatus.FORBIDDEN, "SEC403_0", "접근 권한이 없습니다."),
 
@@ -5,7 +5,10 @@ import com.project.teama_be.domain.member.repository.MemberRepository;
 import com.project.teama_be.global.security.exception.SecurityErrorCode;
 import com.project.teama_be.global.security.userdetails.CustomUserDetails;
 import com.project.teama_be.global.security.util.JwtUtil;
+import com.project.teama_be.global.security.util.TokenBlacklist;
+import com.project.teama_be.global.security.util.TokenRevocationStore;
 import com.project.teama_be.global.utils.HttpResponseUtil;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,11 +20,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -29,6 +36,8 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final MemberRepository memberRepository;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final TokenBlacklist tokenBlacklist;
 
     //JWT 토큰을 사용하여 요청을 인증하는 역할
     @Override
@@ -86,7 +95,11 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
                 log.info("토큰 시작 부분: {}", accessToken.substring(0, Math.min(20, accessToken.length())) + "...");
             }
 
-            authenticateAccessToken(accessToken);
+            SecurityErrorCode rejected = authenticateAccessToken(accessToken);
+            if (rejected != null) {
+                handleException(response, rejected);
+                return;
+            }
             log.info("✅ JWT 인증 성공 - 다음 필터로 진행");
             filterChain.doFilter(request, response);
 
@@ -129,47 +142,75 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         HttpResponseUtil.setErrorResponse(response, errorCode.getHttpStatus(), errorCode.getErrorResponse());
     }
 
-    //Access 토큰의 유효성을 검사하는 메서드
-    private void authenticateAccessToken(String accessToken) {
+    //Access 토큰의 유효성을 검사하는 메서드 : 거부 사유 반환 (통과 시 null)
+    private SecurityErrorCode authenticateAccessToken(String accessToken) {
         log.info("[ JwtAuthorizationFilter ] 토큰으로 인가 과정을 시작합니다.");
 
         try {
-            // AccessToken 유효성 검증
-            jwtUtil.validateToken(accessToken);
+            // AccessToken 유효성 검증 + 클레임, 토큰 ID 추출 (한 번만 파싱, 해시)
+            JwtUtil.VerifiedToken verified = jwtUtil.verify(accessToken);
+            Claims claims = verified.claims();
             log.info("✅ [ JwtAuthorizationFilter ] Access Token 유효성 검증 성공.");
 
-            // 사용자 uid로 User 엔티티 조회
-            String loginId = jwtUtil.getLoginId(accessToken);
-            log.info("[ JwtAuthorizationFilter ] 토큰에서 추출한 loginId: {}", loginId);
+            // 로그아웃한 토큰 거부 (메모리 필터에 있을 때만 Redis 조회)
+            String tokenId = verified.tokenId();
+            if (tokenBlacklist.contains(tokenId)) {
+                log.warn("🚨 [ JwtAuthorizationFilter ] 블랙리스트로 등록된 토큰입니다. tokenID: {}", tokenId);
+                return SecurityErrorCode.BLACKLIST_TOKEN;
+            }
 
-            Member member = memberRepository.findByLoginId(loginId)
-                    .orElseThrow(() -> {
-                        log.error("🚨 사용자를 찾을 수 없습니다: {}", loginId);
-                        return new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + loginId);
-                    });
+            // 검증된 클레임으로 인가용 객체 생성 (회원 조회 없음)
+            String loginId = claims.getSubject();
+            Long memberId = claims.get(JwtUtil.MEMBER_ID_CLAIM, Long.class);
+            if (memberId == null) {
+                // 회원 ID 클레임 이전에 발급된 토큰 : 만료될 때까지만 회원 조회
+                memberId = memberRepository.findByLoginId(loginId)
+                        .map(Member::getId)
+                        .orElseThrow(() -> {
+                            log.error("🚨 사용자를 찾을 수 없습니다: {}", loginId);
+                            return new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + loginId);
+                        });
+            }
+            log.info("[ JwtAuthorizationFilter ] 토큰에서 추출한 memberID: {}, loginId: {}", memberId, loginId);
 
-            log.info("✅ [ JwtAuthorizationFilter ] 사용자 조회 성공 - ID: {}, 닉네임: {}",
-                    member.getId(), member.getNickname());
+            // 탈퇴, 비밀번호 변경 이전에 발급된 토큰 거부
+            if (tokenRevocationStore.isRevoked(memberId, claims.getIssuedAt())) {
+                log.warn("🚨 [ JwtAuthorizationFilter ] 폐기된 토큰입니다. memberID: {}", memberId);
+                return SecurityErrorCode.REVOKED_TOKEN;
+            }
 
             // CustomUserDetail 객체 생성
-            CustomUserDetails userDetails = new CustomUserDetails(member);
+            CustomUserDetails userDetails = new CustomUserDetails(memberId, loginId);
             log.info("✅ [ JwtAuthorizationFilter ] UserDetails 객체 생성 성공");
 
             // Spring Security 인증 토큰 생성
             Authentication authToken = new UsernamePasswordAuthenticationToken(
                     userDetails,
                     null,
-                    userDetails.getAuthorities());
+                    toAuthorities(claims.get(JwtUtil.ROLE_CLAIM, String.class)));
 
             // JWT 기반의 토큰 인증에서는 세션을 사용하지 않기 때문에, SecurityContextHolder 에 현재 인증 객체 저장
             // 다음 요청이 들어올 때마다 새로운 JwtAuthorizationFilter가 작동하여 JWT 토큰을 검증하고,
             // 그 때마다 SecurityContextHolder에 인증 정보를 설정하는 방식으로 동작
             SecurityContextHolder.getContext().setAuthentication(authToken);
             log.info("✅ [ JwtAuthorizationFilter ] 인증 객체 저장 완료 - 사용자: {}", loginId);
+            return null;
 
         } catch (Exception e) {
             log.error("🚨 [ JwtAuthorizationFilter ] 토큰 인증 중 오류 발생: {}", e.getMessage(), e);
             throw e; // 예외를 다시 던져서 상위에서 처리하도록 함
         }
     }
-}
\ No newline at end of file
+
+    // 권한 클레임 (쉼표 구분) -> GrantedAuthority
+    private static List<GrantedAuthority> toAuthorities(String roles) {
+        if (roles == null || roles.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(roles.split(","))
+                .map(String::strip)
+                .filter(role -> !role.isEmpty())
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+}
@@ -47,11 +47,16 @@ public class CustomLogoutHandler implements LogoutHandler {
             }
 
             if (refreshToken != null) {
-                // 리프레시 토큰을 블랙리스트에 추가
+                // 리프레시 토큰을 블랙리스트에 추가 (이미 만료된 토큰은 제외)
                 long expiryDuration = jwtUtil.getRefreshTokenRemainingTime(refreshToken);
-                jwtTokenService.addToBlacklist(refreshToken, expiryDuration);
+                if (expiryDuration > 0) {
+                    jwtTokenService.addToBlacklist(refreshToken, expiryDuration * 1000);
+                }
             }
 
+            // 액세스 토큰도 블랙리스트에 추가 (유효 시간 최대치 동안 보관)
+            jwtTokenService.addToBlacklist(accessToken, jwtUtil.getAccessExpMs());
+
             // 이메일과 연결된 리프레시 토큰 삭제
             jwtTokenService.deleteRefreshTokenByLoginId(loginId);
         }
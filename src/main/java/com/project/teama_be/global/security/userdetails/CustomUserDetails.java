@@ -14,6 +14,11 @@ public class CustomUserDetails extends AuthUser implements UserDetails {
         super(member.getId(), member.getLoginId(), member.getPassword());
     }
 
+    //인가용 객체 생성자 : 검증된 토큰의 클레임으로 생성 (비밀번호 없음)
+    public CustomUserDetails(Long memberId, String loginId) {
+        super(memberId, loginId, null);
+    }
+
     // 권한을 반환하는 메서드, 현재는 빈 컬렉션을 반환 (권한이 필요하다면 여기에 추가 가능)
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
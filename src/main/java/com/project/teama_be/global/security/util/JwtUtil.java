@@ -5,7 +5,9 @@ import com.project.teama_be.domain.member.repository.MemberRepository;
 import com.project.teama_be.global.security.dto.JwtDTO;
 import com.project.teama_be.global.security.userdetails.CustomUserDetails;
 import com.project.teama_be.global.utils.RedisUtil;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -22,8 +24,14 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -31,36 +39,97 @@ import java.util.stream.Collectors;
 @Component
 public class JwtUtil {
 
+    public static final String MEMBER_ID_CLAIM = "memberId";
+    public static final String ROLE_CLAIM = "role";
+    // 구문 분석 시스템의 시계가 JWT를 생성한 시스템의 시계 오차 고려, 약 3분 허용
+    private static final long CLOCK_SKEW_SECONDS = 3 * 60;
+    // 검증된 토큰 캐시 최대 개수
+    private static final int VERIFIED_CACHE_SIZE = 10_000;
+
     private final SecretKey secretKey; //JWT 서명에 사용되는 비밀 키
+    private final JwtParser jwtParser; //서명 검증용 파서 (불변, 한 번만 생성)
     private final Long accessExpMs; //액세스 토큰의 만료 시간
     private final Long refreshExpMs; //리프레시 토큰의 만료 시간
     private final RedisUtil redisUtil;
     private final MemberRepository memberRepository;
+    private final TokenRevocationStore tokenRevocationStore;
+
+    // 검증된 토큰 캐시 : 토큰 SHA-256 -> 클레임, 토큰 ID (토큰 만료 전까지)
+    // 요청마다 조회하므로 잠금 없는 맵을 쓰고, 최대 개수에 도달하면 비움 (다시 검증해 채움)
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    // 검증된 토큰 : 클레임, 토큰 ID (jti, jti 이전에 발급된 토큰은 토큰의 SHA-256)
+    public record VerifiedToken(Claims claims, String tokenId) {}
 
     public JwtUtil(@Value("${spring.jwt.secret}") String secret,
                    @Value("${spring.jwt.token.access-expiration-time}") Long access,
                    @Value("${spring.jwt.token.refresh-expiration-time}") Long refresh,
                    RedisUtil redisUtil,
-                   MemberRepository memberRepository) {
+                   MemberRepository memberRepository,
+                   TokenRevocationStore tokenRevocationStore) {
 
         //주어진 시크릿 키 문자열을 바이트 배열로 변환하고, 이를 사용하여 SecretKey 객체 생성
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser()
+                .clockSkewSeconds(CLOCK_SKEW_SECONDS)
+                .verifyWith(secretKey)
+                .build();
         accessExpMs = access; // 액세스 토큰 만료 시간 설정
         refreshExpMs = refresh; // 리프레시 토큰 만료 시간 설정
         this.redisUtil = redisUtil;
         this.memberRepository = memberRepository;
+        this.tokenRevocationStore = tokenRevocationStore;
     }
 
     //JWT 토큰을 입력으로 받아 토큰의 subject 로부터 사용자 loginId를 추출하는 메서드
     public String getLoginId(String token) throws SignatureException {
         log.info("[ JwtUtil ] 토큰에서 loginId를 추출합니다.");
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject(); //claims의 Subject에서 사용자의 loginId 추출 (Subject): 토큰의 주체 (일반적으로 사용자 ID나 이메일)
+        return getClaims(token).getSubject(); //claims의 Subject에서 사용자의 loginId 추출 (Subject): 토큰의 주체 (일반적으로 사용자 ID나 이메일)
+    }
+
+    //토큰을 검증하고 클레임(회원 ID, 권한, 발급 시각 등)을 추출하는 메서드
+    public Claims getClaims(String token) throws SignatureException {
+        return verify(token).claims();
+    }
+
+    //토큰 ID(jti)를 추출하는 메서드 : jti 이전에 발급된 토큰은 토큰의 SHA-256
+    public String getTokenId(String token) throws SignatureException {
+        return verify(token).tokenId();
+    }
+
+    //토큰을 검증하고 클레임, 토큰 ID를 함께 추출하는 메서드 (토큰 해시는 한 번만 계산)
+    //최근 검증한 토큰은 만료 전까지 캐시된 결과를 사용 (서명 검증, 파싱 생략)
+    public VerifiedToken verify(String token) throws SignatureException {
+        if (token == null || token.isBlank()) {
+            throw new SecurityException("잘못된 토큰입니다.");
+        }
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            Date expiration = cached.claims().getExpiration();
+            if (expiration == null
+                    || expiration.getTime() + TimeUnit.SECONDS.toMillis(CLOCK_SKEW_SECONDS) > System.currentTimeMillis()) {
+                return cached;
+            }
+            verifiedTokens.remove(digest);
+        }
+
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            VerifiedToken verified = new VerifiedToken(claims, claims.getId() != null ? claims.getId() : digest);
+            if (verifiedTokens.size() >= VERIFIED_CACHE_SIZE) {
+                verifiedTokens.clear();
+            }
+            verifiedTokens.put(digest, verified);
+            return verified;
+        } catch (SecurityException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException e) {
+            //원하는 Exception throw
+            throw new SecurityException("잘못된 토큰입니다.");
+        } catch (ExpiredJwtException e) {
+            //원하는 Exception throw
+            throw new ExpiredJwtException(null, null, "만료된 JWT 토큰입니다.");
+        }
     }
 
     //토큰을 발급하는 메서드
@@ -80,8 +149,10 @@ public class JwtUtil {
                 .header() //헤더 부분
                 .add("typ", "JWT") //JWT 타입을 추가
                 .and()
+                .id(UUID.randomUUID().toString()) //토큰 ID(jti) 추가 (블랙리스트 식별용)
                 .subject(userDetails.getUsername()) //Subject 에 loginId 추가
-                .claim("role", authorities) //권한 정보를 클레임에 추가
+                .claim(MEMBER_ID_CLAIM, userDetails.getUserId()) //회원 ID 추가 (인가 시 회원 조회 없이 사용)
+                .claim(ROLE_CLAIM, authorities) //권한 정보를 클레임에 추가
                 .issuedAt(Date.from(issuedAt)) //발행 시간(현재 시간)을 추가
                 .expiration(Date.from(expirationTime)) //만료 시간을 추가
                 .signWith(secretKey) //서명 정보를 추가
@@ -128,35 +199,6 @@ public class JwtUtil {
         return null;
     }
 
-    //토큰의 유효성 검사
-    public void validateToken(String token) {
-        log.info("[ JwtUtil ] 토큰의 유효성을 검증합니다.");
-        try {
-            // 구문 분석 시스템의 시계가 JWT를 생성한 시스템의 시계 오차 고려
-            // 약 3분 허용.
-            long seconds = 3 *60;
-            boolean isExpired = Jwts
-                    .parser()
-                    .clockSkewSeconds(seconds)
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getExpiration()
-                    .before(new Date());
-            if (isExpired) {
-                log.info("만료된 JWT 토큰입니다.");
-            }
-
-        } catch (SecurityException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException e) {
-            //원하는 Exception throw
-            throw new SecurityException("잘못된 토큰입니다.");
-        } catch (ExpiredJwtException e) {
-            //원하는 Exception throw
-            throw new ExpiredJwtException(null, null, "만료된 JWT 토큰입니다.");
-        }
-    }
-
     // AccessToken 유효기간 get
     public long getAccessExpMs() {
         return this.accessExpMs;
@@ -169,11 +211,17 @@ public class JwtUtil {
 
     //주어진 리프레시 토큰을 기반으로 새로운 액세스 토큰을 발급
     public JwtDTO reissueToken(String refreshToken) throws SignatureException {
-        String loginId = getLoginId(refreshToken);
+        Claims claims = getClaims(refreshToken);
+        String loginId = claims.getSubject();
 
         Member member = memberRepository.findByLoginId(loginId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + loginId));
 
+        // 탈퇴, 비밀번호 변경 이전에 발급된 토큰은 재발급 불가
+        if (tokenRevocationStore.isRevoked(member.getId(), claims.getIssuedAt())) {
+            throw new SecurityException("폐기된 토큰입니다.");
+        }
+
         // CustomUserDetails 생성 시 User 객체 사용
         CustomUserDetails userDetails = new CustomUserDetails(member);
         log.info("[ JwtUtil ] 새로운 토큰을 재발급 합니다.");
@@ -188,12 +236,7 @@ public class JwtUtil {
         log.info("[ JwtUtil ] 리프레시 토큰의 남은 만료 시간을 계산합니다.");
         try {
             // 토큰에서 만료 시간(expiration) 클레임 추출
-            Date expiration = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(refreshToken)
-                    .getPayload()
-                    .getExpiration();
+            Date expiration = getClaims(refreshToken).getExpiration();
 
             // 현재 시간과의 차이 계산 (밀리초)
             long now = System.currentTimeMillis();
@@ -206,9 +249,19 @@ public class JwtUtil {
         } catch (ExpiredJwtException e) {
             log.info("[ JwtUtil ] 이미 만료된 리프레시 토큰입니다.");
             return 0;
-        } catch (SecurityException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException e) {
+        } catch (SecurityException e) {
             log.error("[ JwtUtil ] 리프레시 토큰 검증 중 오류 발생: {}", e.getMessage());
             return 0;
         }
     }
+
+    // 토큰 캐시 키 : 원문 대신 SHA-256 (메모리 절약, 로그 등으로 원문 노출 방지)
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,208 @@
+package com.project.teama_be.global.security.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/** 토큰 블랙리스트 :
+ * 로그아웃한 토큰 ID(jti)를 Redis 에 만료 시각까지 보관하고, 서버마다 메모리 Bloom filter 로 앞단에서 거릅니다.
+ * 필터에 없으면 블랙리스트가 아니므로 Redis 조회 없이 통과하고, 필터에 있을 때만 Redis 로 확인합니다. (오탐만 있고 누락 없음)
+ * 추가는 pub/sub 으로 다른 서버에 전파하고, 필터는 서버 시작 시와 1시간 간격으로 sorted set 에서 다시 만듭니다. (만료 항목 정리)
+ * pub/sub 은 전달을 보장하지 않으므로, Redis 재연결로 채널을 다시 구독할 때마다 필터를 다시 만들어 끊긴 동안 놓친 항목을 채웁니다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklist {
+
+    private static final String KEY_PREFIX = "blacklist:";
+    // 토큰 ID -> 만료 시각 (재구성용)
+    private static final String INDEX_KEY = "blacklist:index";
+    private static final String CHANNEL = "blacklist:added";
+    private static final long REBUILD_INTERVAL_MS = 3_600_000L;
+    // 필터 크기 기준 : 예상 항목 수, 오탐률 1%
+    private static final int EXPECTED_SIZE = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile BloomFilter filter;
+    // 재구성 중인 필터 : 재구성 중에 들어온 항목도 함께 반영
+    private BloomFilter rebuilding;
+    // 첫 구성 전에는 모두 Redis 로 확인
+    private volatile boolean ready = false;
+    // 주기 재구성과 재구독 재구성이 겹치지 않도록 (필터 추가(put)는 막지 않음)
+    private final Object rebuildLock = new Object();
+
+    public TokenBlacklist(StringRedisTemplate stringRedisTemplate,
+                          RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.filter = BloomFilter.create(EXPECTED_SIZE, FALSE_POSITIVE_RATE);
+    }
+
+    // 서버 시작 시 구독 후 필터 구성 (구독을 먼저 해야 구성 중 추가된 항목이 빠지지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        redisMessageListenerContainer.addMessageListener(new Listener(), new ChannelTopic(CHANNEL));
+        rebuild();
+        ready = true;
+    }
+
+    /** 블랙리스트 추가 : 모든 서버에 전파
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @param ttlMs 토큰의 남은 유효 시간
+     */
+    public void add(String tokenId, long ttlMs) {
+        if (ttlMs <= 0) {
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + ttlMs;
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", ttlMs, TimeUnit.MILLISECONDS);
+        stringRedisTemplate.opsForZSet().add(INDEX_KEY, tokenId, expiresAt);
+        put(tokenId);
+        stringRedisTemplate.convertAndSend(CHANNEL, tokenId);
+        log.info("[ 토큰 블랙리스트 추가 ] tokenID:{}", tokenId);
+    }
+
+    /** 블랙리스트 확인 : 필터에 있을 때만 Redis 조회
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @return 블랙리스트면 true
+     */
+    public boolean contains(String tokenId) {
+        if (ready && !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + tokenId));
+    }
+
+    // 필터 재구성 : 1시간 간격 (만료된 항목 제거, 항목 수에 맞게 크기 조정)
+    @Scheduled(initialDelay = REBUILD_INTERVAL_MS, fixedDelay = REBUILD_INTERVAL_MS)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            rebuildFilter();
+        }
+    }
+
+    private void rebuildFilter() {
+        stringRedisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, 0, System.currentTimeMillis());
+        Long size = stringRedisTemplate.opsForZSet().zCard(INDEX_KEY);
+        BloomFilter next = BloomFilter.create(
+                Math.max(EXPECTED_SIZE, size == null ? 0 : size * 2), FALSE_POSITIVE_RATE);
+        synchronized (this) {
+            rebuilding = next;
+        }
+
+        Set<String> tokenIds = stringRedisTemplate.opsForZSet().range(INDEX_KEY, 0, -1);
+        if (tokenIds != null) {
+            tokenIds.forEach(next::put);
+        }
+
+        synchronized (this) {
+            filter = next;
+            rebuilding = null;
+        }
+        log.info("[ 토큰 블랙리스트 필터 구성 ] tokenCnt:{}", tokenIds == null ? 0 : tokenIds.size());
+    }
+
+    // 필터에 추가 (이 서버, 다른 서버의 추가 모두)
+    private synchronized void put(String tokenId) {
+        filter.put(tokenId);
+        if (rebuilding != null) {
+            rebuilding.put(tokenId);
+        }
+    }
+
+    // 채널 구독 : 추가된 토큰 반영, 재구독(재연결) 시 필터 재구성
+    private final class Listener implements MessageListener, SubscriptionListener {
+
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            put(new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void onChannelSubscribed(byte[] channel, long count) {
+            // 첫 구독은 start() 에서 구성하므로 건너뜀
+            if (!ready) {
+                return;
+            }
+            log.info("[ 토큰 블랙리스트 ] 채널 재구독, 필터 재구성");
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("[ 토큰 블랙리스트 ] 재구독 후 필터 재구성 실패", e);
+            }
+        }
+    }
+
+    // Bloom filter : 비트 배열 + SHA-256 기반 이중 해싱
+    private static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        private BloomFilter(long bitSize, int hashCount) {
+            this.bits = new AtomicLongArray(Math.toIntExact((bitSize + 63) / 64));
+            this.bitSize = bitSize;
+            this.hashCount = hashCount;
+        }
+
+        // 항목 수 n, 오탐률 p -> 비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = m / n ln 2
+        static BloomFilter create(long expectedSize, double falsePositiveRate) {
+            long bitSize = (long) Math.ceil(-expectedSize * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedSize * Math.log(2)));
+            return new BloomFilter(bitSize, hashCount);
+        }
+
+        void put(String value) {
+            long[] hash = hash(value);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hash[0] + i * hash[1], bitSize);
+                long mask = 1L << index;
+                bits.getAndUpdate((int) (index >>> 6), word -> word | mask);
+            }
+        }
+
+        boolean mightContain(String value) {
+            long[] hash = hash(value);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hash[0] + i * hash[1], bitSize);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long[] hash(String value) {
+            try {
+                ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                        .digest(value.getBytes(StandardCharsets.UTF_8)));
+                return new long[]{digest.getLong(), digest.getLong()};
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.teama_be.global.security.util;
+
+import com.project.teama_be.global.utils.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/** 토큰 폐기 목록 :
+ * 탈퇴, 비밀번호 변경 시 그 회원에게 그 시각 이전에 발급된 토큰을 모두 폐기합니다.
+ * 회원ID -> 폐기 시각을 Redis hash 에 두고, 서버마다 5초 간격으로 메모리에 복사해 요청마다 조회 없이 확인합니다.
+ * (다른 서버의 폐기는 최대 5초 뒤 반영, 리프레시 토큰 만료 시간이 지난 항목은 정리)
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private static final String KEY = "auth:revoked";
+    private static final long REFRESH_INTERVAL_MS = 5_000L;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    // 폐기 항목 보관 기간 : 이보다 먼저 발급된 토큰은 이미 만료
+    private final long retentionMs;
+
+    // 회원ID -> 폐기 시각 (읽기 전용 스냅샷, 교체로 갱신)
+    private volatile Map<Long, Long> revokedAt = Map.of();
+
+    public TokenRevocationStore(StringRedisTemplate stringRedisTemplate,
+                                @Value("${spring.jwt.token.refresh-expiration-time}") long retentionMs) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.retentionMs = retentionMs;
+    }
+
+    /** 회원 토큰 폐기 : 트랜잭션 중이면 커밋 이후
+     *
+     * @param memberId 회원 ID
+     */
+    public void revoke(Long memberId) {
+        // 토큰 발급 시각(iat)은 초 단위이므로 폐기 시각도 초 단위로 내림 (폐기 직후 재로그인한 토큰은 유효)
+        long now = System.currentTimeMillis() / 1000 * 1000;
+        TransactionUtil.afterCommit(() -> {
+            stringRedisTemplate.opsForHash().put(KEY, memberId.toString(), Long.toString(now));
+            synchronized (this) {
+                Map<Long, Long> next = new HashMap<>(revokedAt);
+                next.merge(memberId, now, Math::max);
+                revokedAt = Map.copyOf(next);
+            }
+            log.info("[ 토큰 폐기 ] memberID:{}", memberId);
+        });
+    }
+
+    /** 폐기 여부 확인
+     *
+     * @param memberId 회원 ID
+     * @param issuedAt 토큰 발급 시각
+     * @return 폐기 이전에 발급된 토큰이면 true
+     */
+    public boolean isRevoked(Long memberId, Date issuedAt) {
+        Long revoked = revokedAt.get(memberId);
+        return revoked != null && (issuedAt == null || issuedAt.getTime() < revoked);
+    }
+
+    // Redis -> 메모리 복사 + 오래된 항목 정리 : 5초 간격 (서버 시작 시 즉시 1회)
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MS)
+    public void refresh() {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(KEY);
+        long expiredBefore = System.currentTimeMillis() - retentionMs;
+
+        Map<Long, Long> next = new HashMap<>();
+        entries.forEach((memberId, at) -> {
+            long revoked = Long.parseLong(at.toString());
+            if (revoked < expiredBefore) {
+                stringRedisTemplate.opsForHash().delete(KEY, memberId);
+            } else {
+                next.put(Long.parseLong(memberId.toString()), revoked);
+            }
+        });
+
+        synchronized (this) {
+            // 복사 중에 이 서버에서 폐기한 항목 유지
+            revokedAt.forEach((memberId, at) -> {
+                if (at >= expiredBefore) {
+                    next.merge(memberId, at, Math::max);
+                }
+            });
+            revokedAt = Map.copyOf(next);
+        }
+    }
+}
@@ -17,6 +17,11 @@ public class RedisUtil {
         redisTemplate.opsForValue().set(key, val, time, timeUnit);
     }
 
+    // 키가 없을 때만 저장 (저장했으면 true)
+    public boolean saveIfAbsent(String key, Object val, Long time, TimeUnit timeUnit) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, val, time, timeUnit));
+    }
+
     public void saveFcmToken(String key, NotiReqDTO.FcmToken token){
         redisTemplate.opsForValue().set(key, token.fcmToken());
     }
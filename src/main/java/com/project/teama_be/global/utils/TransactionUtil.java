@@ -0,0 +1,47 @@
+package com.project.teama_be.global.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionUtil {
+
+    /** 커밋 이후 실행 :
+     * 트랜잭션 안이면 커밋 이후에, 트랜잭션 밖이면 즉시 실행합니다.
+     * 롤백된 변경이 캐시, 인덱스에 반영되는 것을 막기 위해 사용합니다.
+     * @param task 실행할 작업
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /** 롤백 이후 실행 :
+     * 트랜잭션 안이면 롤백된 경우에만 실행하고, 트랜잭션 밖이면 실행하지 않습니다.
+     * 트랜잭션 밖에서 먼저 만든 외부 자원(S3 파일 등)을 롤백 시 정리하기 위해 사용합니다.
+     * @param task 실행할 작업
+     */
+    public static void afterRollback(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    task.run();
+                }
+            }
+        });
+    }
+}
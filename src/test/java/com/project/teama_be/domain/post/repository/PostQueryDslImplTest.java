@@ -0,0 +1,125 @@
+package com.project.teama_be.domain.post.repository;
+
+import com.project.teama_be.domain.post.dto.response.PostResDTO;
+import com.project.teama_be.domain.post.entity.PostFeed;
+import com.project.teama_be.domain.post.entity.QPostFeed;
+import com.project.teama_be.global.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 페이지 조회 SQL 수 : 페이지 크기와 관계없이 일정해야 함 (N+1 방지)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:post-page;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+class PostQueryDslImplTest {
+
+    private static final Long LOCATION_ID = 1L;
+    private static final int POST_CNT = 60;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 게시글마다 작성자, 사진, 태그가 다른 읽기 모델 저장
+        for (long postId = 1; postId <= POST_CNT; postId++) {
+            entityManager.persist(postFeed(postId));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 가게_게시글_50개_페이지는_SQL_한_번으로_조회() {
+        PostResDTO.PageablePost<PostResDTO.FullPost> page =
+                postRepository.getPostsByPlaceId(QPostFeed.postFeed.locationId.eq(LOCATION_ID), 50);
+
+        assertThat(page.post()).hasSize(50);
+        assertThat(page.post().get(0).nickname()).isEqualTo("닉네임" + POST_CNT);
+        assertThat(page.post().get(0).postImageUrl()).hasSize(3);
+        assertThat(page.post().get(0).tags()).containsExactly("태그", "맛집");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 페이지_크기가_달라도_SQL_수는_같음() {
+        postRepository.getPostsByPlaceId(QPostFeed.postFeed.locationId.eq(LOCATION_ID), 10);
+        long smallPage = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        postRepository.getPostsByPlaceId(QPostFeed.postFeed.locationId.eq(LOCATION_ID), 50);
+        long largePage = statistics.getPrepareStatementCount();
+
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    void 키워드_검색_50개_페이지는_SQL_한_번으로_조회() {
+        PostResDTO.PageablePost<PostResDTO.FullPost> page =
+                postRepository.getPostsByKeyword("맛집", QPostFeed.postFeed.content.contains("맛집"), 50);
+
+        assertThat(page.post()).hasSize(50);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    // 읽기 모델은 SQL 로만 갱신되므로 테스트에서는 필드를 직접 채움
+    private static PostFeed postFeed(long postId) {
+        PostFeed postFeed = BeanUtils.instantiateClass(PostFeed.class);
+        ReflectionTestUtils.setField(postFeed, "postId", postId);
+        ReflectionTestUtils.setField(postFeed, "memberId", postId);
+        ReflectionTestUtils.setField(postFeed, "nickname", "닉네임" + postId);
+        ReflectionTestUtils.setField(postFeed, "profileUrl", "https://image/profile/" + postId);
+        ReflectionTestUtils.setField(postFeed, "locationId", LOCATION_ID);
+        ReflectionTestUtils.setField(postFeed, "placeName", "가게");
+        ReflectionTestUtils.setField(postFeed, "firstImageUrl", "https://image/post/" + postId + "/0");
+        ReflectionTestUtils.setField(postFeed, "firstThumbnailUrl", "https://image/post/" + postId + "/0");
+        ReflectionTestUtils.setField(postFeed, "imageUrls", List.of(
+                "https://image/post/" + postId + "/0",
+                "https://image/post/" + postId + "/1",
+                "https://image/post/" + postId + "/2"));
+        ReflectionTestUtils.setField(postFeed, "mediumImageUrls", List.of(
+                "https://image/post/" + postId + "/0",
+                "https://image/post/" + postId + "/1",
+                "https://image/post/" + postId + "/2"));
+        ReflectionTestUtils.setField(postFeed, "imageCount", 3L);
+        ReflectionTestUtils.setField(postFeed, "tags", List.of("태그", "맛집"));
+        ReflectionTestUtils.setField(postFeed, "likeCount", postId);
+        ReflectionTestUtils.setField(postFeed, "commentCount", 0L);
+        ReflectionTestUtils.setField(postFeed, "content", "맛집 후기 " + postId);
+        ReflectionTestUtils.setField(postFeed, "createdAt", LocalDateTime.now());
+        return postFeed;
+    }
+}
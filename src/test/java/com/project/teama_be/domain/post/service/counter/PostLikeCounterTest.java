@@ -0,0 +1,139 @@
+package com.project.teama_be.domain.post.service.counter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+// 게시글 좋아요 수 누적기 : 동시 증감과 반영이 겹쳐도 증감이 사라지지 않아야 함
+class PostLikeCounterTest {
+
+    private static final Long POST_ID = 1L;
+    private static final int LIKE_CNT = 1_000;
+
+    private final Map<Long, Long> persisted = new ConcurrentHashMap<>();
+    private final AtomicBoolean failFlush = new AtomicBoolean(false);
+    private PostLikeCounter postLikeCounter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // post.like_count 반영만 기록 (post_feed 반영은 같은 배치이므로 제외)
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            List<Object[]> batch = invocation.getArgument(1);
+            if (failFlush.get()) {
+                throw new DataAccessResourceFailureException("DB 연결 실패");
+            }
+            if (sql.startsWith("UPDATE post ")) {
+                batch.forEach(row -> persisted.merge((Long) row[1], (Long) row[0], Long::sum));
+            }
+            return new int[batch.size()];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        postLikeCounter = new PostLikeCounter(jdbcTemplate, transactionTemplate);
+    }
+
+    @Test
+    void 좋아요_1000개를_동시에_누르는_중에_반영해도_유실_없음() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(LIKE_CNT);
+
+        for (int i = 0; i < LIKE_CNT; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    postLikeCounter.add(POST_ID, 1L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // 좋아요와 반영을 겹치게 실행 : 반영된 값 + 남은 증감은 누른 수를 넘을 수 없음
+        start.countDown();
+        while (done.getCount() > 0) {
+            postLikeCounter.flush();
+            assertThat(persisted.getOrDefault(POST_ID, 0L)).isLessThanOrEqualTo(LIKE_CNT);
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(persisted.getOrDefault(POST_ID, 0L) + postLikeCounter.getPending(POST_ID))
+                .isEqualTo(LIKE_CNT);
+
+        postLikeCounter.flush();
+        assertThat(persisted.get(POST_ID)).isEqualTo(LIKE_CNT);
+        assertThat(postLikeCounter.getPending(POST_ID)).isZero();
+    }
+
+    @Test
+    void 좋아요와_취소가_섞여도_합계가_맞음() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch done = new CountDownLatch(LIKE_CNT);
+
+        // 짝수는 좋아요, 홀수는 취소 -> 합계 0
+        for (int i = 0; i < LIKE_CNT; i++) {
+            long delta = i % 2 == 0 ? 1L : -1L;
+            executor.submit(() -> {
+                postLikeCounter.add(POST_ID, delta);
+                done.countDown();
+            });
+        }
+        while (done.getCount() > 0) {
+            postLikeCounter.flush();
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        postLikeCounter.flush();
+
+        assertThat(persisted.getOrDefault(POST_ID, 0L) + postLikeCounter.getPending(POST_ID)).isZero();
+    }
+
+    @Test
+    void 반영에_실패하면_증감을_되돌려_다음_반영에_재시도() {
+        for (int i = 0; i < LIKE_CNT; i++) {
+            postLikeCounter.add(POST_ID, 1L);
+        }
+
+        failFlush.set(true);
+        postLikeCounter.flush();
+        assertThat(persisted).isEmpty();
+        assertThat(postLikeCounter.getPending(POST_ID)).isEqualTo(LIKE_CNT);
+
+        failFlush.set(false);
+        postLikeCounter.flush();
+        assertThat(persisted.get(POST_ID)).isEqualTo(LIKE_CNT);
+        assertThat(postLikeCounter.getPending(POST_ID)).isZero();
+    }
+}